@@ -0,0 +1,178 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.internal.ArangoExecutorAsync;
+import com.arangodb.internal.MicroBatcher;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Buffers inserts, updates, replaces and deletes and sends them as multi-document operations, see
+ * {@link ArangoCollectionAsync#bulkWriter(com.arangodb.model.async.DocumentBatchOptions)}. Consecutive operations of the
+ * same kind are sent in one request, the requests of a batch are sent one after another. With a parallelism of 1 all
+ * operations are applied in the order they were added, otherwise operations on the same document in different
+ * batches may overtake each other. The instance is thread-safe.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ArangoBulkWriter<T> {
+
+	static class Operation {
+
+		enum Type {
+			INSERT, UPDATE, REPLACE, DELETE
+		}
+
+		private final Type type;
+		private final Object value;
+		private final Object document;
+		private final long size;
+
+		private Operation(final Type type, final Object value, final Object document, final long size) {
+			super();
+			this.type = type;
+			this.value = value;
+			this.document = document;
+			this.size = size;
+		}
+
+		Type getType() {
+			return type;
+		}
+
+		/**
+		 * @return the document as passed by the caller, or the key for a delete
+		 */
+		Object getValue() {
+			return value;
+		}
+
+		/**
+		 * @return the serialized document, or the key for a delete
+		 */
+		Object getDocument() {
+			return document;
+		}
+
+		long size() {
+			return size;
+		}
+
+	}
+
+	private final ArangoExecutorAsync executor;
+	private final MicroBatcher<Operation, Object> batcher;
+	private final Set<CompletableFuture<Object>> pending;
+
+	ArangoBulkWriter(final ArangoExecutorAsync executor, final MicroBatcher<Operation, Object> batcher) {
+		super();
+		this.executor = executor;
+		this.batcher = batcher;
+		pending = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * Buffers the creation of a new document.
+	 *
+	 * @param value
+	 *            A representation of a single document (POJO, VPackSlice or String for Json)
+	 * @return information about the document, once the batch was acknowledged
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<DocumentCreateEntity<T>> insertDocument(final T value) {
+		final VPackSlice document = executor.serialize(value);
+		return add(new Operation(Operation.Type.INSERT, value, document, document.getByteSize()))
+				.thenApply(r -> (DocumentCreateEntity<T>) r);
+	}
+
+	/**
+	 * Buffers a partial update of a document.
+	 *
+	 * @param value
+	 *            A representation of a single document (POJO, VPackSlice or String for Json), which has to contain
+	 *            the _key
+	 * @return information about the document, once the batch was acknowledged
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<DocumentUpdateEntity<T>> updateDocument(final T value) {
+		final VPackSlice document = executor.serialize(value, true);
+		return add(new Operation(Operation.Type.UPDATE, value, document, document.getByteSize()))
+				.thenApply(r -> (DocumentUpdateEntity<T>) r);
+	}
+
+	/**
+	 * Buffers the replacement of a document.
+	 *
+	 * @param value
+	 *            A representation of a single document (POJO, VPackSlice or String for Json), which has to contain
+	 *            the _key
+	 * @return information about the document, once the batch was acknowledged
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<DocumentUpdateEntity<T>> replaceDocument(final T value) {
+		final VPackSlice document = executor.serialize(value);
+		return add(new Operation(Operation.Type.REPLACE, value, document, document.getByteSize()))
+				.thenApply(r -> (DocumentUpdateEntity<T>) r);
+	}
+
+	/**
+	 * Buffers the removal of a document.
+	 *
+	 * @param key
+	 *            The key of the document
+	 * @return information about the document, once the batch was acknowledged
+	 */
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<DocumentDeleteEntity<Void>> deleteDocument(final String key) {
+		executor.validateDocumentKey(key);
+		return add(new Operation(Operation.Type.DELETE, key, key, key.length()))
+				.thenApply(r -> (DocumentDeleteEntity<Void>) r);
+	}
+
+	/**
+	 * Sends the buffered operations immediately.
+	 *
+	 * @return a future which completes when all operations added before were acknowledged, their errors are only
+	 *         reported by the futures of the single operations
+	 */
+	public CompletableFuture<Void> flush() {
+		final CompletableFuture<?>[] operations = new ArrayList<>(pending).toArray(new CompletableFuture<?>[0]);
+		batcher.flush();
+		return CompletableFuture.allOf(operations).handle((r, ex) -> null);
+	}
+
+	private CompletableFuture<Object> add(final Operation operation) {
+		final CompletableFuture<Object> result = batcher.add(operation);
+		pending.add(result);
+		result.whenComplete((r, ex) -> pending.remove(result));
+		return result;
+	}
+
+}
@@ -20,21 +20,52 @@
 
 package com.arangodb;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
 
 import com.arangodb.entity.CollectionEntity;
 import com.arangodb.entity.CollectionPropertiesEntity;
 import com.arangodb.entity.CollectionRevisionEntity;
 import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.DocumentEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.async.DocumentImportEntity;
+import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
 import com.arangodb.internal.ArangoExecutorAsync;
+import com.arangodb.internal.BoundedForEach;
+import com.arangodb.internal.DocumentBatchIterator;
+import com.arangodb.internal.DocumentReadCache;
 import com.arangodb.internal.InternalArangoCollection;
+import com.arangodb.internal.KeyBloomFilter;
+import com.arangodb.internal.MetadataCache;
+import com.arangodb.internal.MicroBatcher;
+import com.arangodb.internal.MultiDocumentSplitter;
+import com.arangodb.internal.velocypack.VPackArrayCursor;
+import com.arangodb.internal.velocypack.VPackDiff;
 import com.arangodb.internal.velocystream.ConnectionAsync;
+import com.arangodb.internal.velocystream.NotModifiedException;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionPropertiesOptions;
 import com.arangodb.model.DocumentCreateOptions;
 import com.arangodb.model.DocumentDeleteOptions;
@@ -47,6 +78,13 @@ import com.arangodb.model.GeoIndexOptions;
 import com.arangodb.model.HashIndexOptions;
 import com.arangodb.model.PersistentIndexOptions;
 import com.arangodb.model.SkiplistIndexOptions;
+import com.arangodb.model.async.DocumentBatchOptions;
+import com.arangodb.model.async.DocumentImportOptions;
+import com.arangodb.model.async.KeyFilterOptions;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.exception.VPackException;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
 import com.arangodb.velocystream.Response;
 
 /**
@@ -56,6 +94,28 @@ import com.arangodb.velocystream.Response;
 public class ArangoCollectionAsync
 		extends InternalArangoCollection<ArangoExecutorAsync, CompletableFuture<Response>, ConnectionAsync> {
 
+	private static final String GET_DOCUMENTS_QUERY = "FOR key IN @keys RETURN DOCUMENT(@collection, key)";
+	private static final String EXISTING_KEYS_QUERY = "FOR d IN @@collection FILTER d._key IN @keys RETURN d._key";
+	private static final int DEFAULT_EXISTS_BATCH_SIZE = 1000;
+	private static final int DEFAULT_EXISTS_PARALLELISM = 4;
+	private static final int DEFAULT_MULTI_BATCH_SIZE = 1000;
+	private static final int DEFAULT_MULTI_PARALLELISM = 4;
+	private static final String KEYS_QUERY = "FOR d IN @@collection RETURN d._key";
+	private static final long DEFAULT_KEY_FILTER_MIN_KEYS = 1024;
+	private static final double DEFAULT_KEY_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+	private static final String EXPORT_QUERY = "FOR d IN @@collection RETURN d";
+	private static final String EXPORT_BOUNDARIES_QUERY = "LET keys = (FOR d IN @@collection SORT d._key "
+			+ "RETURN d._key) FOR i IN 1..@boundaries RETURN keys[FLOOR(i * LENGTH(keys) / (@boundaries + 1))]";
+	private static final String EXPORT_FIRST_PARTITION_QUERY = "FOR d IN @@collection FILTER d._key < @to RETURN d";
+	private static final String EXPORT_PARTITION_QUERY = "FOR d IN @@collection "
+			+ "FILTER d._key >= @from && d._key < @to RETURN d";
+	private static final String EXPORT_LAST_PARTITION_QUERY = "FOR d IN @@collection FILTER d._key >= @from RETURN d";
+	private static final int DEFAULT_EXPORT_BATCH_SIZE = 1000;
+	private static final String PATH_API_IMPORT = "/_api/import";
+	private static final int DEFAULT_IMPORT_BATCH_SIZE = 1000;
+	private static final long DEFAULT_IMPORT_BATCH_BYTES = 4 * 1024 * 1024;
+	private static final int DEFAULT_IMPORT_PARALLELISM = 4;
+
 	private final ArangoDatabaseAsync db;
 
 	protected ArangoCollectionAsync(final ArangoDatabaseAsync db, final String name) {
@@ -79,7 +139,7 @@ public class ArangoCollectionAsync
 	 */
 	public <T> CompletableFuture<DocumentCreateEntity<T>> insertDocument(final T value) {
 		return executor.execute(insertDocumentRequest(value, new DocumentCreateOptions()),
-			insertDocumentResponseDeserializer(value));
+			addingToKeyFilter(insertDocumentResponseDeserializer(value)));
 	}
 
 	/**
@@ -97,7 +157,8 @@ public class ArangoCollectionAsync
 	public <T> CompletableFuture<DocumentCreateEntity<T>> insertDocument(
 		final T value,
 		final DocumentCreateOptions options) {
-		return executor.execute(insertDocumentRequest(value, options), insertDocumentResponseDeserializer(value));
+		return executor.execute(insertDocumentRequest(value, options),
+			addingToKeyFilter(insertDocumentResponseDeserializer(value)));
 	}
 
 	/**
@@ -113,8 +174,9 @@ public class ArangoCollectionAsync
 	public <T> CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<T>>> insertDocuments(
 		final Collection<T> values) {
 		final DocumentCreateOptions params = new DocumentCreateOptions();
-		return executor.execute(insertDocumentsRequest(values, params),
-			insertDocumentsResponseDeserializer(values, params));
+		return executeSplit(values, value -> executor.serialize(value),
+			(documents, chunk) -> executor.execute(insertDocumentsRequest(documents, params),
+				addingAllToKeyFilter(insertDocumentsResponseDeserializer(chunk, params))));
 	}
 
 	/**
@@ -133,8 +195,92 @@ public class ArangoCollectionAsync
 		final Collection<T> values,
 		final DocumentCreateOptions options) {
 		final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
-		return executor.execute(insertDocumentsRequest(values, params),
-			insertDocumentsResponseDeserializer(values, params));
+		return executeSplit(values, value -> executor.serialize(value),
+			(documents, chunk) -> executor.execute(insertDocumentsRequest(documents, params),
+				addingAllToKeyFilter(insertDocumentsResponseDeserializer(chunk, params))));
+	}
+
+	/**
+	 * Returns a handle which coalesces single document inserts, issued concurrently within a short window, into one
+	 * multi-document insert. The results are handed back to each caller individually.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#create-document">API
+	 *      Documentation</a>
+	 * @param batchOptions
+	 *            Size and delay of the batches, can be null
+	 * @param options
+	 *            Additional options for all inserts, can be null
+	 * @return the insert batcher
+	 */
+	public <T> ArangoInsertBatcher<T> insertBatcher(
+		final DocumentBatchOptions batchOptions,
+		final DocumentCreateOptions options) {
+		final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+		return new ArangoInsertBatcher<>(new MicroBatcher<T, DocumentCreateEntity<T>>(batchOptions,
+				(values, results) -> executor.executeEach(insertDocumentsRequest(values, params), results,
+					i -> addingToKeyFilter(insertDocumentResponseDeserializer(values.get(i))))));
+	}
+
+	/**
+	 * @return the key filter of this collection, or null if none was loaded
+	 */
+	private KeyBloomFilter keyFilter() {
+		return executor.keyFilters().get(keyFilterName());
+	}
+
+	private String keyFilterName() {
+		return db.name() + "/" + name();
+	}
+
+	/**
+	 * Adds the key of a created document to the key filter, also used by the vertex and edge collections of graphs.
+	 */
+	<E extends DocumentEntity> ResponseDeserializer<E> addingToKeyFilter(final ResponseDeserializer<E> deserializer) {
+		return response -> {
+			final E entity = deserializer.deserialize(response);
+			final KeyBloomFilter filter = keyFilter();
+			if (filter != null && entity.getKey() != null) {
+				filter.add(entity.getKey());
+			}
+			return entity;
+		};
+	}
+
+	private <T> ResponseDeserializer<MultiDocumentEntity<DocumentCreateEntity<T>>> addingAllToKeyFilter(
+		final ResponseDeserializer<MultiDocumentEntity<DocumentCreateEntity<T>>> deserializer) {
+		return response -> {
+			final MultiDocumentEntity<DocumentCreateEntity<T>> entity = deserializer.deserialize(response);
+			final KeyBloomFilter filter = keyFilter();
+			if (filter != null) {
+				for (final DocumentCreateEntity<T> document : entity.getDocuments()) {
+					if (document.getKey() != null) {
+						filter.add(document.getKey());
+					}
+				}
+			}
+			return entity;
+		};
+	}
+
+	/**
+	 * Adds the keys of a batch of documents to be imported to the key filter. The filter is dropped if a document
+	 * has no key, because the key generated by the server is not returned by the import.
+	 */
+	private VPackSlice addToKeyFilter(final VPackSlice documents) {
+		final KeyBloomFilter filter = keyFilter();
+		if (filter != null) {
+			final VPackArrayCursor elements = new VPackArrayCursor().reset(documents);
+			while (elements.next()) {
+				final VPackSlice key = elements.current().get("_key");
+				if (key.isString()) {
+					filter.add(key.getAsString());
+				} else {
+					executor.keyFilters().remove(keyFilterName(), filter);
+					break;
+				}
+			}
+		}
+		return documents;
 	}
 
 	/**
@@ -150,6 +296,9 @@ public class ArangoCollectionAsync
 	 */
 	public <T> CompletableFuture<T> getDocument(final String key, final Class<T> type) throws ArangoDBException {
 		executor.validateDocumentKey(key);
+		if (executor.documentReadCache().isEnabled()) {
+			return getCachedDocument(key, type);
+		}
 		final CompletableFuture<T> result = new CompletableFuture<>();
 		final CompletableFuture<T> execute = executor.execute(getDocumentRequest(key, new DocumentReadOptions()), type);
 		execute.whenComplete((response, ex) -> result.complete(response));
@@ -174,12 +323,80 @@ public class ArangoCollectionAsync
 		final Class<T> type,
 		final DocumentReadOptions options) throws ArangoDBException {
 		executor.validateDocumentKey(key);
+		if (executor.documentReadCache().isEnabled()
+				&& (options == null || options.getIfMatch() == null && options.getIfNoneMatch() == null)) {
+			return getCachedDocument(key, type);
+		}
 		final CompletableFuture<T> result = new CompletableFuture<>();
 		final CompletableFuture<T> execute = executor.execute(getDocumentRequest(key, options), type);
 		execute.whenComplete((response, ex) -> result.complete(response));
 		return result;
 	}
 
+	/**
+	 * Serves a document from the client-side cache. A cached document which was not validated within the TTL is read
+	 * conditionally with its revision, so the server only sends the document again if it changed.
+	 */
+	private <T> CompletableFuture<T> getCachedDocument(final String key, final Class<T> type) {
+		final DocumentReadCache cache = executor.documentReadCache();
+		final DocumentReadCache.Entry entry = cache.get(db.name(), name(), key);
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		if (entry != null && cache.isFresh(entry)) {
+			completeCachedDocument(result, entry.getDocument(), type);
+			return result;
+		}
+		final long stamp = cache.stamp();
+		final DocumentReadOptions options = new DocumentReadOptions();
+		if (entry != null) {
+			options.ifNoneMatch(entry.getRevision());
+		}
+		final CompletableFuture<VPackSlice> execute = executor.execute(getDocumentRequest(key, options),
+			Response::getBody);
+		execute.whenComplete((document, ex) -> {
+			if (document != null) {
+				cache.put(stamp, db.name(), name(), key, document);
+				completeCachedDocument(result, document, type);
+			} else if (entry != null && (ex instanceof NotModifiedException
+					|| ex != null && ex.getCause() instanceof NotModifiedException)) {
+				cache.validated(entry);
+				completeCachedDocument(result, entry.getDocument(), type);
+			} else {
+				cache.remove(db.name(), name(), key);
+				result.complete(null);
+			}
+		});
+		return result;
+	}
+
+	private <T> void completeCachedDocument(
+		final CompletableFuture<T> result,
+		final VPackSlice document,
+		final Class<T> type) {
+		try {
+			result.complete(executor.deserialize(document, type));
+		} catch (final VPackException | ArangoDBException e) {
+			result.complete(null);
+		}
+	}
+
+	/**
+	 * Removes the document with the given key, or all documents of this collection if the key is null, from the
+	 * client-side document cache once the write completed.
+	 */
+	<R> CompletableFuture<R> invalidateCached(final String key, final CompletableFuture<R> write) {
+		final DocumentReadCache cache = executor.documentReadCache();
+		if (cache.isEnabled()) {
+			write.whenComplete((r, ex) -> {
+				if (key != null) {
+					cache.remove(db.name(), name(), key);
+				} else {
+					cache.removeCollection(db.name(), name());
+				}
+			});
+		}
+		return write;
+	}
+
 	/**
 	 * Replaces the document with key with the one in the body, provided there is such a document and no precondition is
 	 * violated
@@ -193,8 +410,8 @@ public class ArangoCollectionAsync
 	 * @return information about the document
 	 */
 	public <T> CompletableFuture<DocumentUpdateEntity<T>> replaceDocument(final String key, final T value) {
-		return executor.execute(replaceDocumentRequest(key, value, new DocumentReplaceOptions()),
-			replaceDocumentResponseDeserializer(value));
+		return invalidateCached(key, executor.execute(replaceDocumentRequest(key, value, new DocumentReplaceOptions()),
+			replaceDocumentResponseDeserializer(value)));
 	}
 
 	/**
@@ -215,8 +432,8 @@ public class ArangoCollectionAsync
 		final String key,
 		final T value,
 		final DocumentReplaceOptions options) {
-		return executor.execute(replaceDocumentRequest(key, value, options),
-			replaceDocumentResponseDeserializer(value));
+		return invalidateCached(key, executor.execute(replaceDocumentRequest(key, value, options),
+			replaceDocumentResponseDeserializer(value)));
 	}
 
 	/**
@@ -232,8 +449,9 @@ public class ArangoCollectionAsync
 	public <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> replaceDocuments(
 		final Collection<T> values) {
 		final DocumentReplaceOptions params = new DocumentReplaceOptions();
-		return executor.execute(replaceDocumentsRequest(values, params),
-			replaceDocumentsResponseDeserializer(values, params));
+		return invalidateCached(null, executeSplit(values, value -> executor.serialize(value),
+			(documents, chunk) -> executor.execute(replaceDocumentsRequest(documents, params),
+				replaceDocumentsResponseDeserializer(chunk, params))));
 	}
 
 	/**
@@ -252,8 +470,9 @@ public class ArangoCollectionAsync
 		final Collection<T> values,
 		final DocumentReplaceOptions options) {
 		final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
-		return executor.execute(replaceDocumentsRequest(values, params),
-			replaceDocumentsResponseDeserializer(values, params));
+		return invalidateCached(null, executeSplit(values, value -> executor.serialize(value),
+			(documents, chunk) -> executor.execute(replaceDocumentsRequest(documents, params),
+				replaceDocumentsResponseDeserializer(chunk, params))));
 	}
 
 	/**
@@ -270,8 +489,8 @@ public class ArangoCollectionAsync
 	 * @return information about the document
 	 */
 	public <T> CompletableFuture<DocumentUpdateEntity<T>> updateDocument(final String key, final T value) {
-		return executor.execute(updateDocumentRequest(key, value, new DocumentUpdateOptions()),
-			updateDocumentResponseDeserializer(value));
+		return invalidateCached(key, executor.execute(updateDocumentRequest(key, value, new DocumentUpdateOptions()),
+			updateDocumentResponseDeserializer(value)));
 	}
 
 	/**
@@ -293,7 +512,60 @@ public class ArangoCollectionAsync
 		final String key,
 		final T value,
 		final DocumentUpdateOptions options) {
-		return executor.execute(updateDocumentRequest(key, value, options), updateDocumentResponseDeserializer(value));
+		return invalidateCached(key,
+			executor.execute(updateDocumentRequest(key, value, options), updateDocumentResponseDeserializer(value)));
+	}
+
+	/**
+	 * Partially updates the document identified by document-key with the attributes which differ between the given
+	 * states of the document. The effect is the same as {@link #updateDocument(String, Object)} with {@code after},
+	 * provided the stored document equals {@code before}, but only the changed attributes are sent.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#update-document">API
+	 *      Documentation</a>
+	 * @param key
+	 *            The key of the document
+	 * @param before
+	 *            The document as read before it was modified (POJO or VPackSlice)
+	 * @param after
+	 *            The modified document (POJO or VPackSlice)
+	 * @return information about the document
+	 */
+	public <T> CompletableFuture<DocumentUpdateEntity<T>> updateDocumentDiff(
+		final String key,
+		final T before,
+		final T after) {
+		return updateDocumentDiff(key, before, after, new DocumentUpdateOptions());
+	}
+
+	/**
+	 * Partially updates the document identified by document-key with the attributes which differ between the given
+	 * states of the document. The effect is the same as
+	 * {@link #updateDocument(String, Object, DocumentUpdateOptions)} with {@code after}, provided the stored document
+	 * equals {@code before}, but only the changed attributes are sent.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#update-document">API
+	 *      Documentation</a>
+	 * @param key
+	 *            The key of the document
+	 * @param before
+	 *            The document as read before it was modified (POJO or VPackSlice)
+	 * @param after
+	 *            The modified document (POJO or VPackSlice)
+	 * @param options
+	 *            Additional options, can be null
+	 * @return information about the document
+	 */
+	public <T> CompletableFuture<DocumentUpdateEntity<T>> updateDocumentDiff(
+		final String key,
+		final T before,
+		final T after,
+		final DocumentUpdateOptions options) {
+		final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
+		final VPackSlice patch = VPackDiff.diff(executor.serialize(before, true), executor.serialize(after, true),
+			params.getMergeObjects() == null || params.getMergeObjects());
+		return invalidateCached(key,
+			executor.execute(updateDocumentRequest(key, patch, params), updateDocumentResponseDeserializer(after)));
 	}
 
 	/**
@@ -311,8 +583,9 @@ public class ArangoCollectionAsync
 	public <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> updateDocuments(
 		final Collection<T> values) {
 		final DocumentUpdateOptions params = new DocumentUpdateOptions();
-		return executor.execute(updateDocumentsRequest(values, params),
-			updateDocumentsResponseDeserializer(values, params));
+		return invalidateCached(null, executeSplit(values, value -> executor.serialize(value, true),
+			(documents, chunk) -> executor.execute(updateDocumentsRequest(documents, params),
+				updateDocumentsResponseDeserializer(chunk, params))));
 	}
 
 	/**
@@ -333,8 +606,9 @@ public class ArangoCollectionAsync
 		final Collection<T> values,
 		final DocumentUpdateOptions options) {
 		final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
-		return executor.execute(updateDocumentsRequest(values, params),
-			updateDocumentsResponseDeserializer(values, params));
+		return invalidateCached(null, executeSplit(values, value -> executor.serialize(value, true),
+			(documents, chunk) -> executor.execute(updateDocumentsRequest(documents, params),
+				updateDocumentsResponseDeserializer(chunk, params))));
 	}
 
 	/**
@@ -350,8 +624,8 @@ public class ArangoCollectionAsync
 	 * @return information about the document
 	 */
 	public CompletableFuture<DocumentDeleteEntity<Void>> deleteDocument(final String key) {
-		return executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
-			deleteDocumentResponseDeserializer(Void.class));
+		return invalidateCached(key, executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
+			deleteDocumentResponseDeserializer(Void.class)));
 	}
 
 	/**
@@ -372,7 +646,8 @@ public class ArangoCollectionAsync
 		final String key,
 		final Class<T> type,
 		final DocumentDeleteOptions options) {
-		return executor.execute(deleteDocumentRequest(key, options), deleteDocumentResponseDeserializer(type));
+		return invalidateCached(key,
+			executor.execute(deleteDocumentRequest(key, options), deleteDocumentResponseDeserializer(type)));
 	}
 
 	/**
@@ -390,8 +665,9 @@ public class ArangoCollectionAsync
 	 */
 	public CompletableFuture<MultiDocumentEntity<DocumentDeleteEntity<Void>>> deleteDocuments(
 		final Collection<String> keys) {
-		return executor.execute(deleteDocumentsRequest(keys, new DocumentDeleteOptions()),
-			deleteDocumentsResponseDeserializer(Void.class));
+		return invalidateCached(null, executeSplit(keys, null,
+			(documents, chunk) -> executor.execute(deleteDocumentsRequest(chunk, new DocumentDeleteOptions()),
+				deleteDocumentsResponseDeserializer(Void.class))));
 	}
 
 	/**
@@ -413,7 +689,425 @@ public class ArangoCollectionAsync
 		final Collection<String> keys,
 		final Class<T> type,
 		final DocumentDeleteOptions options) {
-		return executor.execute(deleteDocumentsRequest(keys, options), deleteDocumentsResponseDeserializer(type));
+		return invalidateCached(null, executeSplit(keys, null, (documents, chunk) -> executor
+				.execute(deleteDocumentsRequest(chunk, options), deleteDocumentsResponseDeserializer(type))));
+	}
+
+	/**
+	 * Executes a multi-document operation, split into several requests if configured with
+	 * {@link ArangoDBAsync.Builder#multiDocumentBatchSize(Integer)} or
+	 * {@link ArangoDBAsync.Builder#multiDocumentBatchBytes(Long)}. The results of the requests are merged in the order
+	 * of the documents. If a request fails, no further requests are sent and the returned future fails. Large
+	 * operations are serialized in parallel if configured with
+	 * {@link ArangoDBAsync.Builder#parallelSerializationThreshold(Integer)}.
+	 * 
+	 * @param serializer
+	 *            serializes a single document, null if the values are keys
+	 * @param execute
+	 *            executes a request for the documents to be sent and the corresponding values passed by the caller
+	 */
+	private <T, E extends DocumentEntity> CompletableFuture<MultiDocumentEntity<E>> executeSplit(
+		final Collection<T> values,
+		final Function<Object, VPackSlice> serializer,
+		final BiFunction<Collection<?>, Collection<T>, CompletableFuture<MultiDocumentEntity<E>>> execute) {
+		final List<Object> serialized = executor.parallelSerializer().serialize(values, serializer);
+		final MultiDocumentSplitter splitter = executor.multiDocumentSplitter();
+		final List<MultiDocumentSplitter.Chunk<T>> chunks = splitter.split(values, serialized, serializer);
+		if (chunks == null) {
+			return execute.apply(serialized != null ? serialized : values, values);
+		}
+		return executeChunks(chunks.size(), splitter.getParallelism(),
+			i -> execute.apply(chunks.get(i).getDocuments(), chunks.get(i).getValues()));
+	}
+
+	/**
+	 * Executes a multi-document operation in batches of at most {@code batchOptions.maxBatchSize} documents (default
+	 * 1000), with at most {@code batchOptions.parallelism} requests in flight (default 4). The results are merged in
+	 * the order of the documents. If a batch fails, no further batches are sent and the returned future fails.
+	 */
+	<T, E extends DocumentEntity> CompletableFuture<MultiDocumentEntity<E>> executeBatches(
+		final Collection<T> values,
+		final DocumentBatchOptions batchOptions,
+		final Function<List<T>, CompletableFuture<MultiDocumentEntity<E>>> execute) {
+		final List<T> list = values instanceof List ? (List<T>) values : new ArrayList<>(values);
+		final Integer maxBatchSize = batchOptions != null ? batchOptions.getMaxBatchSize() : null;
+		final Integer parallelism = batchOptions != null ? batchOptions.getParallelism() : null;
+		final int batchSize = Math.max(1, maxBatchSize != null ? maxBatchSize : DEFAULT_MULTI_BATCH_SIZE);
+		final int batches = Math.max(1, (list.size() + batchSize - 1) / batchSize);
+		return executeChunks(batches, parallelism != null ? parallelism : DEFAULT_MULTI_PARALLELISM,
+			i -> execute.apply(list.subList(i * batchSize, Math.min(list.size(), (i + 1) * batchSize))));
+	}
+
+	private <E extends DocumentEntity> CompletableFuture<MultiDocumentEntity<E>> executeChunks(
+		final int count,
+		final int parallelism,
+		final IntFunction<CompletableFuture<MultiDocumentEntity<E>>> execute) {
+		final List<MultiDocumentEntity<E>> results = new ArrayList<>(Collections.nCopies(count, null));
+		final List<Integer> indices = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			indices.add(i);
+		}
+		return BoundedForEach.run(indices.iterator(), parallelism, i -> execute.apply(i).thenAccept(result -> {
+			synchronized (results) {
+				results.set(i, result);
+			}
+		})).thenApply(v -> {
+			final Collection<E> documents = new ArrayList<>();
+			final Collection<ErrorEntity> errors = new ArrayList<>();
+			synchronized (results) {
+				for (final MultiDocumentEntity<E> result : results) {
+					documents.addAll(result.getDocuments());
+					errors.addAll(result.getErrors());
+				}
+			}
+			final MultiDocumentEntity<E> merged = new MultiDocumentEntity<>();
+			merged.setDocuments(documents);
+			merged.setErrors(errors);
+			return merged;
+		});
+	}
+
+	/**
+	 * Imports documents with the bulk import API. The documents are sent in batches, bounded by the number of
+	 * documents and their size, with several batches in flight at the same time. Further documents are only pulled
+	 * from the iterator when a batch was imported, so that memory usage stays bounded. The iterator is not advanced by
+	 * the thread reading responses from the connection.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/BulkImports/ImportingSelfContained.html">API
+	 *      Documentation</a>
+	 * @param values
+	 *            The documents to be imported (POJO or VPackSlice)
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the aggregated counts and error details of all batches
+	 */
+	public <T> CompletableFuture<DocumentImportEntity> importDocuments(
+		final Iterator<T> values,
+		final DocumentImportOptions options) {
+		final DocumentImportOptions params = (options != null ? options : new DocumentImportOptions());
+		final Iterator<VPackSlice> batches = new DocumentBatchIterator<>(values,
+				params.getBatchSize() != null ? params.getBatchSize() : DEFAULT_IMPORT_BATCH_SIZE,
+				params.getBatchBytes() != null ? params.getBatchBytes() : DEFAULT_IMPORT_BATCH_BYTES,
+				value -> executor.serialize(value));
+		final DocumentImportEntity total = new DocumentImportEntity();
+		return invalidateCached(null, BoundedForEach.run(batches,
+			params.getParallelism() != null ? params.getParallelism() : DEFAULT_IMPORT_PARALLELISM,
+			batch -> executor
+					.<DocumentImportEntity> execute(importDocumentsRequest(addToKeyFilter(batch), params),
+						DocumentImportEntity.class)
+					.thenAccept(result -> merge(total, result)))
+				.thenApply(v -> total));
+	}
+
+	/**
+	 * Imports documents with the bulk import API, see {@link #importDocuments(Iterator, DocumentImportOptions)}
+	 * 
+	 * @param values
+	 *            The documents to be imported (POJO or VPackSlice)
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the aggregated counts and error details of all batches
+	 */
+	public <T> CompletableFuture<DocumentImportEntity> importDocuments(
+		final Iterable<T> values,
+		final DocumentImportOptions options) {
+		return importDocuments(values.iterator(), options);
+	}
+
+	/**
+	 * Imports documents with the bulk import API, see {@link #importDocuments(Iterator, DocumentImportOptions)}
+	 * 
+	 * @param values
+	 *            The documents to be imported (POJO or VPackSlice)
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the aggregated counts and error details of all batches
+	 */
+	public <T> CompletableFuture<DocumentImportEntity> importDocuments(
+		final Stream<T> values,
+		final DocumentImportOptions options) {
+		return importDocuments(values.iterator(), options);
+	}
+
+	private Request importDocumentsRequest(final VPackSlice batch, final DocumentImportOptions options) {
+		final Request request = new Request(db.name(), RequestType.POST, PATH_API_IMPORT);
+		request.putQueryParam("collection", name());
+		request.putQueryParam("type", "list");
+		request.putQueryParam("onDuplicate", options.getOnDuplicate());
+		request.putQueryParam("complete", options.getComplete());
+		request.putQueryParam("details", options.getDetails() != null ? options.getDetails() : true);
+		request.putQueryParam("waitForSync", options.getWaitForSync());
+		request.setBody(batch);
+		return request;
+	}
+
+	private static void merge(final DocumentImportEntity total, final DocumentImportEntity result) {
+		synchronized (total) {
+			total.setCreated(total.getCreated() + count(result.getCreated()));
+			total.setErrors(total.getErrors() + count(result.getErrors()));
+			total.setEmpty(total.getEmpty() + count(result.getEmpty()));
+			total.setUpdated(total.getUpdated() + count(result.getUpdated()));
+			total.setIgnored(total.getIgnored() + count(result.getIgnored()));
+			if (result.getDetails() != null) {
+				total.getDetails().addAll(result.getDetails());
+			}
+		}
+	}
+
+	private static int count(final Integer count) {
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * Returns one publisher per partition of the collection. The partitions are ranges of document keys of about the
+	 * same number of documents. Their boundaries are taken from the sorted keys by a single query when the first
+	 * publisher is subscribed, and are shared by all publishers. Every publisher runs its own cursor when subscribed,
+	 * so that the partitions can be read concurrently. The server reads each partition as a range of the primary
+	 * index where the storage engine keeps it sorted, otherwise every partition scans the collection.
+	 * 
+	 * @param partitions
+	 *            The number of partitions
+	 * @param options
+	 *            Additional options for the cursors, can be null
+	 * @param type
+	 *            The type of the documents (POJO class, VPackSlice or String for Json)
+	 * @return the publishers of the partitions
+	 */
+	public <T> List<Publisher<T>> exportPartitions(
+		final int partitions,
+		final AqlQueryOptions options,
+		final Class<T> type) {
+		final List<Publisher<T>> publishers = new ArrayList<>(partitions);
+		if (partitions <= 1) {
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("@collection", name());
+			publishers.add(db.queryPublisher(EXPORT_QUERY, bindVars, options, type));
+			return publishers;
+		}
+		final AtomicReference<CompletableFuture<List<String>>> boundaries = new AtomicReference<>();
+		for (int partition = 0; partition < partitions; partition++) {
+			final int index = partition;
+			publishers.add(new ArangoCursorPublisher<>(
+					() -> exportBoundaries(boundaries, partitions - 1).thenCompose(keys -> {
+						final Map<String, Object> bindVars = new HashMap<>();
+						bindVars.put("@collection", name());
+						final String query;
+						if (index == 0) {
+							query = EXPORT_FIRST_PARTITION_QUERY;
+						} else if (index == keys.size()) {
+							query = EXPORT_LAST_PARTITION_QUERY;
+						} else {
+							query = EXPORT_PARTITION_QUERY;
+						}
+						if (index > 0) {
+							bindVars.put("from", keys.get(index - 1));
+						}
+						if (index < keys.size()) {
+							bindVars.put("to", keys.get(index));
+						}
+						return db.query(query, bindVars, options, type);
+					})));
+		}
+		return publishers;
+	}
+
+	/**
+	 * Returns the sorted keys splitting the collection into ranges of about the same number of documents. They are
+	 * sampled once and then shared through the given reference. Equal boundaries, like for a collection with fewer
+	 * documents than partitions, result in empty ranges. A collection without documents results in empty strings as
+	 * boundaries, which leave all documents inserted in the meantime to the last range.
+	 */
+	private CompletableFuture<List<String>> exportBoundaries(
+		final AtomicReference<CompletableFuture<List<String>>> boundaries,
+		final int count) {
+		final CompletableFuture<List<String>> sampling = new CompletableFuture<>();
+		if (!boundaries.compareAndSet(null, sampling)) {
+			return boundaries.get();
+		}
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("@collection", name());
+		bindVars.put("boundaries", count);
+		final List<String> keys = new ArrayList<>(count);
+		db.query(EXPORT_BOUNDARIES_QUERY, bindVars, new AqlQueryOptions().batchSize(DEFAULT_EXPORT_BATCH_SIZE),
+			VPackSlice.class).thenCompose(cursor -> cursor.forEachBatch((batch, elements) -> {
+				while (elements.next()) {
+					keys.add(elements.current().isString() ? elements.current().getAsString() : "");
+				}
+			})).whenComplete((v, ex) -> {
+				if (ex == null) {
+					sampling.complete(keys);
+				} else {
+					boundaries.compareAndSet(sampling, null);
+					sampling.completeExceptionally(ex);
+				}
+			});
+		return sampling;
+	}
+
+	/**
+	 * Returns a publisher of all documents of the collection. The collection is read in key ranges by concurrent
+	 * cursors, see {@link #exportPartitions(int, AqlQueryOptions, Class)}, whose documents are merged in the order
+	 * they arrive.
+	 * 
+	 * @param partitions
+	 *            The number of partitions read concurrently
+	 * @param options
+	 *            Additional options for the cursors, can be null
+	 * @param type
+	 *            The type of the documents (POJO class, VPackSlice or String for Json)
+	 * @return the publisher of all documents
+	 */
+	public <T> Publisher<T> export(final int partitions, final AqlQueryOptions options, final Class<T> type) {
+		final Integer batchSize = options != null ? options.getBatchSize() : null;
+		return new ArangoMergedPublisher<>(exportPartitions(partitions, options, type),
+				batchSize != null ? batchSize : DEFAULT_EXPORT_BATCH_SIZE);
+	}
+
+	/**
+	 * Returns a handle which buffers document inserts, updates, replaces and deletes and sends them as multi-document
+	 * operations once the maximum number of operations or bytes is buffered, or the maximum delay after the first
+	 * buffered operation has passed. The future of each operation completes when its batch was acknowledged, an error
+	 * the server reports for a single document only fails the future of this operation.
+	 * 
+	 * @param batchOptions
+	 *            Size, byte size, delay and parallelism of the batches, can be null
+	 * @return the bulk writer
+	 */
+	public <T> ArangoBulkWriter<T> bulkWriter(final DocumentBatchOptions batchOptions) {
+		return new ArangoBulkWriter<>(executor, new MicroBatcher<ArangoBulkWriter.Operation, Object>(batchOptions,
+				ArangoBulkWriter.Operation::size, this::executeBulk));
+	}
+
+	/**
+	 * Sends each run of consecutive operations of the same kind as one multi-document request, one after another.
+	 */
+	private CompletableFuture<?> executeBulk(
+		final List<ArangoBulkWriter.Operation> operations,
+		final List<CompletableFuture<Object>> results) {
+		CompletableFuture<?> execution = CompletableFuture.completedFuture(null);
+		int start = 0;
+		while (start < operations.size()) {
+			final ArangoBulkWriter.Operation.Type type = operations.get(start).getType();
+			int end = start + 1;
+			while (end < operations.size() && operations.get(end).getType() == type) {
+				end++;
+			}
+			final List<ArangoBulkWriter.Operation> run = operations.subList(start, end);
+			final List<CompletableFuture<Object>> runResults = results.subList(start, end);
+			execution = execution.thenCompose(v -> executeBulkRun(type, run, runResults));
+			start = end;
+		}
+		return execution;
+	}
+
+	private CompletableFuture<Void> executeBulkRun(
+		final ArangoBulkWriter.Operation.Type type,
+		final List<ArangoBulkWriter.Operation> run,
+		final List<CompletableFuture<Object>> results) {
+		final List<Object> documents = new ArrayList<>(run.size());
+		for (final ArangoBulkWriter.Operation operation : run) {
+			documents.add(operation.getDocument());
+		}
+		switch (type) {
+		case INSERT:
+			return executor.executeEach(insertDocumentsRequest(documents, new DocumentCreateOptions()), results,
+				i -> untyped(addingToKeyFilter(insertDocumentResponseDeserializer(run.get(i).getValue()))));
+		case UPDATE:
+			return invalidateCached(null,
+				executor.executeEach(updateDocumentsRequest(documents, new DocumentUpdateOptions()), results,
+					i -> untyped(updateDocumentResponseDeserializer(run.get(i).getValue()))));
+		case REPLACE:
+			return invalidateCached(null,
+				executor.executeEach(replaceDocumentsRequest(documents, new DocumentReplaceOptions()), results,
+					i -> untyped(replaceDocumentResponseDeserializer(run.get(i).getValue()))));
+		default:
+			final List<String> keys = new ArrayList<>(run.size());
+			for (final ArangoBulkWriter.Operation operation : run) {
+				keys.add((String) operation.getValue());
+			}
+			return invalidateCached(null,
+				executor.executeEach(deleteDocumentsRequest(keys, new DocumentDeleteOptions()), results,
+					i -> untyped(deleteDocumentResponseDeserializer(Void.class))));
+		}
+	}
+
+	private static <R> ResponseDeserializer<Object> untyped(final ResponseDeserializer<R> deserializer) {
+		return response -> deserializer.deserialize(response);
+	}
+
+	/**
+	 * Returns a handle which coalesces single document reads, issued concurrently within a short window, into one AQL
+	 * query looking up all keys. Each caller receives its own document, or null if it does not exist.
+	 * 
+	 * @param batchOptions
+	 *            Size and delay of the batches, can be null
+	 * @param type
+	 *            The type of the documents (POJO class, VPackSlice or String for Json)
+	 * @return the document loader
+	 */
+	public <T> ArangoDocumentLoader<T> documentLoader(final DocumentBatchOptions batchOptions, final Class<T> type) {
+		return new ArangoDocumentLoader<>(new MicroBatcher<String, T>(batchOptions, (keys, results) -> {
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("keys", keys);
+			bindVars.put("collection", name());
+			final int[] index = { 0 };
+			return db.query(GET_DOCUMENTS_QUERY, bindVars, new AqlQueryOptions().batchSize(keys.size()),
+				VPackSlice.class).thenCompose(cursor -> cursor.forEachBatch((batch, elements) -> {
+					while (elements.next()) {
+						final VPackSlice document = elements.current();
+						final CompletableFuture<T> result = results.get(index[0]++);
+						try {
+							result.complete(document.isNull() ? null : executor.deserialize(document, type));
+						} catch (final RuntimeException e) {
+							result.completeExceptionally(e);
+						}
+					}
+				}));
+		}));
+	}
+
+	/**
+	 * Reads the documents with the given keys with AQL queries, each looking up at most
+	 * {@code batchOptions.maxBatchSize} keys (default 1000), with at most {@code batchOptions.parallelism} queries
+	 * running at the same time (default 4).
+	 * 
+	 * @return the documents in the order of the keys, null for documents which do not exist
+	 */
+	<T> CompletableFuture<List<T>> lookupDocuments(
+		final Collection<String> keys,
+		final Class<T> type,
+		final DocumentBatchOptions batchOptions) {
+		final List<String> list = keys instanceof List ? (List<String>) keys : new ArrayList<>(keys);
+		final Integer maxBatchSize = batchOptions != null ? batchOptions.getMaxBatchSize() : null;
+		final Integer parallelism = batchOptions != null ? batchOptions.getParallelism() : null;
+		final int batchSize = Math.max(1, maxBatchSize != null ? maxBatchSize : DEFAULT_MULTI_BATCH_SIZE);
+		final List<Integer> offsets = new ArrayList<>();
+		for (int offset = 0; offset < list.size(); offset += batchSize) {
+			offsets.add(offset);
+		}
+		final List<T> result = new ArrayList<>(Collections.nCopies(list.size(), null));
+		return BoundedForEach.run(offsets.iterator(), parallelism != null ? parallelism : DEFAULT_MULTI_PARALLELISM,
+			offset -> {
+				final List<String> batch = list.subList(offset, Math.min(list.size(), offset + batchSize));
+				final Map<String, Object> bindVars = new HashMap<>();
+				bindVars.put("keys", batch);
+				bindVars.put("collection", name());
+				final int[] index = { offset };
+				return db.query(GET_DOCUMENTS_QUERY, bindVars, new AqlQueryOptions().batchSize(batch.size()),
+					VPackSlice.class).thenCompose(cursor -> cursor.forEachBatch((b, elements) -> {
+						while (elements.next()) {
+							final VPackSlice document = elements.current();
+							final T value = document.isNull() ? null : executor.deserialize(document, type);
+							synchronized (result) {
+								result.set(index[0]++, value);
+							}
+						}
+					}));
+			}).thenApply(v -> {
+				synchronized (result) {
+					return result;
+				}
+			});
 	}
 
 	/**
@@ -427,6 +1121,10 @@ public class ArangoCollectionAsync
 	 * @return true if the document was found, otherwise false
 	 */
 	public CompletableFuture<Boolean> documentExists(final String key) {
+		final KeyBloomFilter filter = keyFilter();
+		if (filter != null && !filter.mightContain(key)) {
+			return CompletableFuture.completedFuture(false);
+		}
 		final CompletableFuture<Boolean> result = new CompletableFuture<>();
 		executor.communication().execute(documentExistsRequest(key, new DocumentExistsOptions()))
 				.whenComplete(documentExistsResponseConsumer(result));
@@ -446,6 +1144,10 @@ public class ArangoCollectionAsync
 	 * @return true if the document was found, otherwise false
 	 */
 	public CompletableFuture<Boolean> documentExists(final String key, final DocumentExistsOptions options) {
+		final KeyBloomFilter filter = keyFilter();
+		if (filter != null && !filter.mightContain(key)) {
+			return CompletableFuture.completedFuture(false);
+		}
 		final CompletableFuture<Boolean> result = new CompletableFuture<>();
 		executor.communication().execute(documentExistsRequest(key, options))
 				.whenComplete(documentExistsResponseConsumer(result));
@@ -465,6 +1167,139 @@ public class ArangoCollectionAsync
 		};
 	}
 
+	/**
+	 * Checks which of the given documents exist, by looking up the keys in batches with AQL queries
+	 * 
+	 * @param keys
+	 *            The keys of the documents
+	 * @return a bit set in which the bit at the position of a key in the given collection is set if the document
+	 *         exists
+	 */
+	public CompletableFuture<BitSet> documentsExist(final Collection<String> keys) {
+		return documentsExist(keys, null);
+	}
+
+	/**
+	 * Checks which of the given documents exist, by looking up the keys in batches with AQL queries
+	 * 
+	 * @param keys
+	 *            The keys of the documents
+	 * @param batchOptions
+	 *            The number of keys looked up by one query (default 1000) and the maximum number of queries running
+	 *            at the same time (default 4), can be null
+	 * @return a bit set in which the bit at the position of a key in the given collection is set if the document
+	 *         exists
+	 */
+	public CompletableFuture<BitSet> documentsExist(
+		final Collection<String> keys,
+		final DocumentBatchOptions batchOptions) {
+		final List<String> list = keys instanceof List ? (List<String>) keys : new ArrayList<>(keys);
+		final Integer maxBatchSize = batchOptions != null ? batchOptions.getMaxBatchSize() : null;
+		final Integer parallelism = batchOptions != null ? batchOptions.getParallelism() : null;
+		final int batchSize = Math.max(1, maxBatchSize != null ? maxBatchSize : DEFAULT_EXISTS_BATCH_SIZE);
+		final KeyBloomFilter filter = keyFilter();
+		final List<String> candidates;
+		final int[] positions;
+		if (filter != null) {
+			candidates = new ArrayList<>();
+			positions = new int[list.size()];
+			for (int i = 0; i < list.size(); i++) {
+				if (filter.mightContain(list.get(i))) {
+					positions[candidates.size()] = i;
+					candidates.add(list.get(i));
+				}
+			}
+		} else {
+			candidates = list;
+			positions = null;
+		}
+		final List<Integer> offsets = new ArrayList<>();
+		for (int offset = 0; offset < candidates.size(); offset += batchSize) {
+			offsets.add(offset);
+		}
+		final BitSet result = new BitSet(list.size());
+		return BoundedForEach.run(offsets.iterator(), parallelism != null ? parallelism : DEFAULT_EXISTS_PARALLELISM,
+			offset -> {
+				final List<String> batch = candidates.subList(offset, Math.min(candidates.size(), offset + batchSize));
+				return existingKeys(batch).thenAccept(existing -> {
+					synchronized (result) {
+						for (int i = 0; i < batch.size(); i++) {
+							if (existing.contains(batch.get(i))) {
+								result.set(positions != null ? positions[offset + i] : offset + i);
+							}
+						}
+					}
+				});
+			}).thenApply(v -> {
+				synchronized (result) {
+					return result;
+				}
+			});
+	}
+
+	/**
+	 * Loads a Bloom filter over the keys of all documents of this collection, which is used by
+	 * {@link #documentExists(String)} and {@link #documentsExist(Collection)} to answer for keys which definitely do
+	 * not exist without a request. The filter holds the keys at the time it was loaded. Afterwards only the keys of
+	 * documents this driver instance inserts with the insert and import methods and the bulk writer of this
+	 * collection, or as vertices and edges of a graph, are added. Documents created in any other way, like with AQL
+	 * INSERT, UPSERT or REPLACE, in transactions or by other clients, are not known to the filter and would be
+	 * reported as not existing. The filter must be loaded again or dropped after such writes. Removed documents stay
+	 * in the filter and are looked up on the server.
+	 * 
+	 * @param options
+	 *            Size and false positive probability of the filter, can be null
+	 * @return a future which completes when the filter is loaded
+	 */
+	public CompletableFuture<Void> loadKeyFilter(final KeyFilterOptions options) {
+		final KeyFilterOptions params = options != null ? options : new KeyFilterOptions();
+		return count().thenCompose(count -> {
+			final long expectedKeys = params.getExpectedKeys() != null ? params.getExpectedKeys()
+					: Math.max(DEFAULT_KEY_FILTER_MIN_KEYS, 2 * count.getCount());
+			final KeyBloomFilter filter = new KeyBloomFilter(expectedKeys,
+					params.getFalsePositiveProbability() != null ? params.getFalsePositiveProbability()
+							: DEFAULT_KEY_FILTER_FALSE_POSITIVE_PROBABILITY);
+			executor.keyFilters().put(keyFilterName(), filter);
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("@collection", name());
+			return db.query(KEYS_QUERY, bindVars, new AqlQueryOptions().batchSize(DEFAULT_EXPORT_BATCH_SIZE),
+				VPackSlice.class).thenCompose(cursor -> cursor.forEachBatch((batch, elements) -> {
+					while (elements.next()) {
+						filter.add(elements.current().getAsString());
+					}
+				})).whenComplete((v, ex) -> {
+					if (ex == null) {
+						filter.loaded();
+					} else {
+						executor.keyFilters().remove(keyFilterName(), filter);
+					}
+				});
+		});
+	}
+
+	/**
+	 * Removes the key filter loaded with {@link #loadKeyFilter(KeyFilterOptions)}.
+	 */
+	public void dropKeyFilter() {
+		executor.keyFilters().remove(keyFilterName());
+	}
+
+	/**
+	 * Looks up which of the given keys exist with a single query, without consulting the key filter.
+	 */
+	CompletableFuture<Set<String>> existingKeys(final List<String> keys) {
+		final Map<String, Object> bindVars = new HashMap<>();
+		bindVars.put("keys", keys);
+		bindVars.put("@collection", name());
+		final Set<String> existing = new HashSet<>();
+		return db.query(EXISTING_KEYS_QUERY, bindVars, new AqlQueryOptions().batchSize(keys.size()), VPackSlice.class)
+				.thenCompose(cursor -> cursor.forEachBatch((batch, elements) -> {
+					while (elements.next()) {
+						existing.add(elements.current().getAsString());
+					}
+				})).thenApply(v -> existing);
+	}
+
 	/**
 	 * Creates a hash index for the collection, if it does not already exist.
 	 * 
@@ -478,7 +1313,7 @@ public class ArangoCollectionAsync
 	public CompletableFuture<IndexEntity> createHashIndex(
 		final Collection<String> fields,
 		final HashIndexOptions options) {
-		return executor.execute(createHashIndexRequest(fields, options), IndexEntity.class);
+		return invalidateMetadata(executor.execute(createHashIndexRequest(fields, options), IndexEntity.class));
 	}
 
 	/**
@@ -495,7 +1330,7 @@ public class ArangoCollectionAsync
 	public CompletableFuture<IndexEntity> createSkiplistIndex(
 		final Collection<String> fields,
 		final SkiplistIndexOptions options) {
-		return executor.execute(createSkiplistIndexRequest(fields, options), IndexEntity.class);
+		return invalidateMetadata(executor.execute(createSkiplistIndexRequest(fields, options), IndexEntity.class));
 	}
 
 	/**
@@ -512,7 +1347,8 @@ public class ArangoCollectionAsync
 	public CompletableFuture<IndexEntity> createPersistentIndex(
 		final Collection<String> fields,
 		final PersistentIndexOptions options) {
-		return executor.execute(createPersistentIndexRequest(fields, options), IndexEntity.class);
+		return invalidateMetadata(
+			executor.execute(createPersistentIndexRequest(fields, options), IndexEntity.class));
 	}
 
 	/**
@@ -529,7 +1365,7 @@ public class ArangoCollectionAsync
 	public CompletableFuture<IndexEntity> createGeoIndex(
 		final Collection<String> fields,
 		final GeoIndexOptions options) {
-		return executor.execute(createGeoIndexRequest(fields, options), IndexEntity.class);
+		return invalidateMetadata(executor.execute(createGeoIndexRequest(fields, options), IndexEntity.class));
 	}
 
 	/**
@@ -546,7 +1382,7 @@ public class ArangoCollectionAsync
 	public CompletableFuture<IndexEntity> createFulltextIndex(
 		final Collection<String> fields,
 		final FulltextIndexOptions options) {
-		return executor.execute(createFulltextIndexRequest(fields, options), IndexEntity.class);
+		return invalidateMetadata(executor.execute(createFulltextIndexRequest(fields, options), IndexEntity.class));
 	}
 
 	/**
@@ -558,7 +1394,8 @@ public class ArangoCollectionAsync
 	 * @return information about the indexes
 	 */
 	public CompletableFuture<Collection<IndexEntity>> getIndexes() {
-		return executor.execute(getIndexesRequest(), getIndexesResponseDeserializer());
+		return executor.metadataCache().get(metadataKey("indexes"),
+			() -> executor.execute(getIndexesRequest(), getIndexesResponseDeserializer()));
 	}
 
 	/**
@@ -569,7 +1406,7 @@ public class ArangoCollectionAsync
 	 * @return information about the collection
 	 */
 	public CompletableFuture<CollectionEntity> truncate() {
-		return executor.execute(truncateRequest(), CollectionEntity.class);
+		return invalidateMetadata(invalidateCached(null, executor.execute(truncateRequest(), CollectionEntity.class)));
 	}
 
 	/**
@@ -581,7 +1418,8 @@ public class ArangoCollectionAsync
 	 * @return information about the collection, including the number of documents
 	 */
 	public CompletableFuture<CollectionPropertiesEntity> count() {
-		return executor.execute(countRequest(), CollectionPropertiesEntity.class);
+		return executor.metadataCache().get(metadataKey("count"),
+			() -> executor.execute(countRequest(), CollectionPropertiesEntity.class));
 	}
 
 	/**
@@ -592,7 +1430,8 @@ public class ArangoCollectionAsync
 	 * @return void
 	 */
 	public CompletableFuture<Void> drop() {
-		return executor.execute(dropRequest(), Void.class);
+		executor.keyFilters().remove(keyFilterName());
+		return invalidateMetadata(invalidateCached(null, executor.execute(dropRequest(), Void.class)));
 	}
 
 	/**
@@ -603,7 +1442,7 @@ public class ArangoCollectionAsync
 	 * @return information about the collection
 	 */
 	public CompletableFuture<CollectionEntity> load() {
-		return executor.execute(loadRequest(), CollectionEntity.class);
+		return invalidateMetadata(executor.execute(loadRequest(), CollectionEntity.class));
 	}
 
 	/**
@@ -615,7 +1454,7 @@ public class ArangoCollectionAsync
 	 * @return information about the collection
 	 */
 	public CompletableFuture<CollectionEntity> unload() {
-		return executor.execute(unloadRequest(), CollectionEntity.class);
+		return invalidateMetadata(executor.execute(unloadRequest(), CollectionEntity.class));
 	}
 
 	/**
@@ -627,7 +1466,8 @@ public class ArangoCollectionAsync
 	 * @return information about the collection
 	 */
 	public CompletableFuture<CollectionEntity> getInfo() {
-		return executor.execute(getInfoRequest(), CollectionEntity.class);
+		return executor.metadataCache().get(metadataKey("info"),
+			() -> executor.execute(getInfoRequest(), CollectionEntity.class));
 	}
 
 	/**
@@ -639,7 +1479,8 @@ public class ArangoCollectionAsync
 	 * @return properties of the collection
 	 */
 	public CompletableFuture<CollectionPropertiesEntity> getProperties() {
-		return executor.execute(getPropertiesRequest(), CollectionPropertiesEntity.class);
+		return executor.metadataCache().get(metadataKey("properties"),
+			() -> executor.execute(getPropertiesRequest(), CollectionPropertiesEntity.class));
 	}
 
 	/**
@@ -653,7 +1494,7 @@ public class ArangoCollectionAsync
 	 * @return properties of the collection
 	 */
 	public CompletableFuture<CollectionPropertiesEntity> changeProperties(final CollectionPropertiesOptions options) {
-		return executor.execute(changePropertiesRequest(options), CollectionPropertiesEntity.class);
+		return invalidateMetadata(executor.execute(changePropertiesRequest(options), CollectionPropertiesEntity.class));
 	}
 
 	/**
@@ -666,7 +1507,9 @@ public class ArangoCollectionAsync
 	 * @return information about the collection
 	 */
 	public CompletableFuture<CollectionEntity> rename(final String newName) {
-		return executor.execute(renameRequest(newName), CollectionEntity.class);
+		executor.keyFilters().remove(keyFilterName());
+		return invalidateMetadata(
+			invalidateCached(null, executor.execute(renameRequest(newName), CollectionEntity.class)));
 	}
 
 	/**
@@ -680,4 +1523,21 @@ public class ArangoCollectionAsync
 		return executor.execute(getRevisionRequest(), CollectionRevisionEntity.class);
 	}
 
+	private String metadataKey(final String type) {
+		return MetadataCache.key(db.name(), name(), type);
+	}
+
+	/**
+	 * Removes the cached metadata of this collection and the cached collections of the database once the change
+	 * completed.
+	 */
+	private <R> CompletableFuture<R> invalidateMetadata(final CompletableFuture<R> change) {
+		final MetadataCache cache = executor.metadataCache();
+		change.whenComplete((r, ex) -> {
+			cache.removePrefix(metadataKey(""));
+			cache.removePrefix(MetadataCache.key(db.name(), "", ArangoDatabaseAsync.METADATA_COLLECTIONS));
+		});
+		return change;
+	}
+
 }
@@ -0,0 +1,161 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * A cursor batch of object results decoded into one column vector per attribute. Numeric columns are decoded into
+ * primitive arrays, string columns are dictionary-encoded. Columns with mixed or other value types are kept as
+ * {@link VPackSlice}. The column index of an attribute is the same for all batches of a cursor.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ArangoColumnBatch {
+
+	public enum ColumnType {
+		/**
+		 * integral numbers, see {@link ArangoColumnBatch#getLongs(int)}
+		 */
+		LONG,
+		/**
+		 * numbers, see {@link ArangoColumnBatch#getDoubles(int)}
+		 */
+		DOUBLE,
+		/**
+		 * strings, see {@link ArangoColumnBatch#getCodes(int)} and {@link ArangoColumnBatch#getDictionary(int)}
+		 */
+		STRING,
+		/**
+		 * any other or mixed values, see {@link ArangoColumnBatch#getSlices(int)}
+		 */
+		SLICE
+	}
+
+	private final List<String> columns;
+	private final int size;
+	private final ColumnType[] types;
+	private final Object[] values;
+	private final String[][] dictionaries;
+	private final BitSet[] nulls;
+
+	ArangoColumnBatch(final List<String> columns, final int size, final ColumnType[] types, final Object[] values,
+		final String[][] dictionaries, final BitSet[] nulls) {
+		super();
+		this.columns = columns;
+		this.size = size;
+		this.types = types;
+		this.values = values;
+		this.dictionaries = dictionaries;
+		this.nulls = nulls;
+	}
+
+	/**
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the attribute names of the columns, in column index order
+	 */
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * @param name
+	 *            attribute name
+	 * @return the column index of the attribute, -1 if no row of the cursor so far contained the attribute
+	 */
+	public int getColumn(final String name) {
+		return columns.indexOf(name);
+	}
+
+	public ColumnType getType(final int column) {
+		return types[column];
+	}
+
+	/**
+	 * @return whether the row has no value or null for the column
+	 */
+	public boolean isNull(final int column, final int row) {
+		return nulls[column].get(row);
+	}
+
+	/**
+	 * @return the values of a {@link ColumnType#LONG} column, 0 for null
+	 */
+	public long[] getLongs(final int column) {
+		return (long[]) values(column, ColumnType.LONG);
+	}
+
+	/**
+	 * @return the values of a {@link ColumnType#DOUBLE} column, 0 for null
+	 */
+	public double[] getDoubles(final int column) {
+		return (double[]) values(column, ColumnType.DOUBLE);
+	}
+
+	/**
+	 * @return the dictionary codes of a {@link ColumnType#STRING} column, -1 for null
+	 */
+	public int[] getCodes(final int column) {
+		return (int[]) values(column, ColumnType.STRING);
+	}
+
+	/**
+	 * @return the distinct values of a {@link ColumnType#STRING} column, indexed by code
+	 */
+	public String[] getDictionary(final int column) {
+		values(column, ColumnType.STRING);
+		return dictionaries[column];
+	}
+
+	/**
+	 * @return the value of a {@link ColumnType#STRING} column in the given row
+	 */
+	public String getString(final int column, final int row) {
+		final int code = getCodes(column)[row];
+		return code >= 0 ? dictionaries[column][code] : null;
+	}
+
+	/**
+	 * @return the values of a {@link ColumnType#SLICE} column, null for null
+	 */
+	public VPackSlice[] getSlices(final int column) {
+		return (VPackSlice[]) values(column, ColumnType.SLICE);
+	}
+
+	private Object values(final int column, final ColumnType type) {
+		if (types[column] != type) {
+			throw new ArangoDBException(
+					String.format("Column %s is of type %s, not %s", columns.get(column), types[column], type));
+		}
+		return values[column];
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.arangodb.ArangoColumnBatch.ColumnType;
+import com.arangodb.internal.velocypack.VPackArrayCursor;
+import com.arangodb.internal.velocypack.VPackAttributeCache;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Decodes the object results of cursor batches into {@link ArangoColumnBatch}es. The first pass over a batch
+ * determines the type of every column, the second pass fills the column vectors. Attribute names are mapped to
+ * column indexes by their raw bytes.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+class ArangoColumnDecoder {
+
+	private static final int INTEGER = 1;
+	private static final int DOUBLE = 2;
+	private static final int STRING = 4;
+	private static final int OTHER = 8;
+
+	private final List<String> columns;
+	private final Map<String, Integer> indexes;
+	private final VPackAttributeCache<Integer> attributes;
+	private final VPackArrayCursor rows;
+
+	ArangoColumnDecoder() {
+		super();
+		columns = new ArrayList<>();
+		indexes = new HashMap<>();
+		attributes = new VPackAttributeCache<>(this::column);
+		rows = new VPackArrayCursor();
+	}
+
+	ArangoColumnBatch decode(final VPackSlice batch, final int from) {
+		final int size = batch.size() - from;
+		int[] flags = new int[columns.size()];
+		rows.reset(batch, from);
+		while (rows.next()) {
+			final VPackSlice row = rows.current();
+			if (!row.isObject()) {
+				throw new ArangoDBException("Columnar decoding requires object results, found " + row);
+			}
+			for (int i = 0; i < row.size(); i++) {
+				final int column = attributes.get(row.keyAt(i));
+				if (column >= flags.length) {
+					flags = Arrays.copyOf(flags, columns.size());
+				}
+				flags[column] |= flag(row.valueAt(i));
+			}
+		}
+		final int count = columns.size();
+		flags = Arrays.copyOf(flags, count);
+		final ColumnType[] types = new ColumnType[count];
+		final Object[] values = new Object[count];
+		final BitSet[] nulls = new BitSet[count];
+		final List<Map<String, Integer>> codes = new ArrayList<>(count);
+		for (int column = 0; column < count; column++) {
+			types[column] = type(flags[column]);
+			values[column] = allocate(types[column], size);
+			nulls[column] = new BitSet(size);
+			nulls[column].set(0, size);
+			codes.add(types[column] == ColumnType.STRING ? new HashMap<>() : null);
+		}
+		rows.reset(batch, from);
+		while (rows.next()) {
+			final int index = rows.index() - from;
+			final VPackSlice row = rows.current();
+			for (int i = 0; i < row.size(); i++) {
+				final VPackSlice value = row.valueAt(i);
+				if (value.isNull()) {
+					continue;
+				}
+				final int column = attributes.get(row.keyAt(i));
+				nulls[column].clear(index);
+				switch (types[column]) {
+				case LONG:
+					((long[]) values[column])[index] = value.getAsLong();
+					break;
+				case DOUBLE:
+					((double[]) values[column])[index] = value.isDouble() ? value.getAsDouble() : value.getAsLong();
+					break;
+				case STRING:
+					final Map<String, Integer> dictionary = codes.get(column);
+					final String string = value.getAsString();
+					Integer code = dictionary.get(string);
+					if (code == null) {
+						code = dictionary.size();
+						dictionary.put(string, code);
+					}
+					((int[]) values[column])[index] = code;
+					break;
+				default:
+					((VPackSlice[]) values[column])[index] = value;
+					break;
+				}
+			}
+		}
+		final String[][] dictionaries = new String[count][];
+		for (int column = 0; column < count; column++) {
+			final Map<String, Integer> dictionary = codes.get(column);
+			if (dictionary != null) {
+				dictionaries[column] = new String[dictionary.size()];
+				for (final Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+					dictionaries[column][entry.getValue()] = entry.getKey();
+				}
+			}
+		}
+		return new ArangoColumnBatch(Collections.unmodifiableList(new ArrayList<>(columns)), size, types, values,
+				dictionaries, nulls);
+	}
+
+	private Integer column(final String name) {
+		Integer index = indexes.get(name);
+		if (index == null) {
+			index = columns.size();
+			columns.add(name);
+			indexes.put(name, index);
+		}
+		return index;
+	}
+
+	private static int flag(final VPackSlice value) {
+		if (value.isNull()) {
+			return 0;
+		} else if (value.isInteger()) {
+			return INTEGER;
+		} else if (value.isDouble()) {
+			return DOUBLE;
+		} else if (value.isString()) {
+			return STRING;
+		}
+		return OTHER;
+	}
+
+	private static ColumnType type(final int flags) {
+		if (flags == INTEGER) {
+			return ColumnType.LONG;
+		} else if (flags == DOUBLE || flags == (INTEGER | DOUBLE)) {
+			return ColumnType.DOUBLE;
+		} else if (flags == STRING) {
+			return ColumnType.STRING;
+		}
+		return ColumnType.SLICE;
+	}
+
+	private static Object allocate(final ColumnType type, final int size) {
+		switch (type) {
+		case LONG:
+			return new long[size];
+		case DOUBLE:
+			return new double[size];
+		case STRING:
+			final int[] codes = new int[size];
+			Arrays.fill(codes, -1);
+			return codes;
+		default:
+			return new VPackSlice[size];
+		}
+	}
+
+}
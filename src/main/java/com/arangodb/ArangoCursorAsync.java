@@ -20,26 +20,398 @@
 
 package com.arangodb;
 
-import java.util.Spliterators;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.arangodb.entity.CursorEntity;
-import com.arangodb.internal.ArangoCursorExecute;
-import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.ArangoCursorAsyncExecute;
+import com.arangodb.internal.ArangoCursorTracker;
+import com.arangodb.internal.velocypack.VPackArrayCursor;
+import com.arangodb.velocypack.VPackSlice;
 
 /**
+ * A cursor over the results of an AQL query. Besides the blocking {@link java.util.Iterator} methods inherited from
+ * {@link ArangoCursor}, the cursor can be consumed batch by batch with {@link #nextBatch()} and
+ * {@link #forEachAsync(Consumer)}, which never block a thread while the next batch is fetched from the server. The
+ * cursor is meant to be consumed by a single consumer at a time. With {@link #prefetch(int, long)} further batches are
+ * requested in the background while the current batch is processed.
+ *
  * @author Mark - mark at arangodb.com
  *
  */
 public class ArangoCursorAsync<T> extends ArangoCursor<T> {
 
-	protected ArangoCursorAsync(final InternalArangoDatabase<?, ?, ?> db, final ArangoCursorExecute execute,
+	/**
+	 * Consumer of whole cursor batches, see {@link ArangoCursorAsync#forEachBatch(BatchConsumer)}
+	 */
+	@FunctionalInterface
+	public interface BatchConsumer {
+
+		/**
+		 * @param batch
+		 *            The batch as VelocyPack array, only valid during the call
+		 * @param elements
+		 *            Cursor over the not yet consumed elements of the batch, the same instance is passed for every
+		 *            batch
+		 */
+		void accept(VPackSlice batch, VPackArrayCursor elements);
+
+	}
+
+	private final ArangoDatabaseAsync db;
+	private final ArangoCursorAsyncExecute execute;
+	private final Class<T> type;
+	private volatile CursorEntity result;
+	private volatile int pos;
+	private volatile long offset;
+	private final Deque<CompletableFuture<CursorEntity>> prefetched;
+	private CompletableFuture<CursorEntity> lastRequest;
+	private int prefetchDepth;
+	private long prefetchMemory;
+	private final ArangoCursorTracker.Registration registration;
+
+	protected ArangoCursorAsync(final ArangoDatabaseAsync db, final ArangoCursorAsyncExecute execute,
 		final Class<T> type, final CursorEntity result) {
 		super(db, execute, type, result);
+		this.db = db;
+		this.execute = execute;
+		this.type = type;
+		this.result = result;
+		pos = 0;
+		offset = 0;
+		prefetched = new ArrayDeque<>();
+		lastRequest = CompletableFuture.completedFuture(result);
+		prefetchDepth = 0;
+		prefetchMemory = 0;
+		registration = getId() != null && hasMore(result)
+				? db.executor().cursorTracker().register(this, execute, getId()) : null;
+	}
+
+	/**
+	 * Enables read-ahead of cursor batches. While the current batch is processed, up to {@code depth} following
+	 * batches are requested from the server in the background, one after another. No further batch is requested as
+	 * long as the prefetched but not yet consumed batches occupy {@code memoryBudget} bytes or more. A batch still in
+	 * flight is counted with the size of the current batch.
+	 * 
+	 * @param depth
+	 *            The maximum number of batches fetched ahead of the consumer, 0 disables prefetching
+	 * @param memoryBudget
+	 *            The maximum size in bytes of the prefetched batches
+	 * @return this cursor
+	 */
+	public ArangoCursorAsync<T> prefetch(final int depth, final long memoryBudget) {
+		synchronized (prefetched) {
+			prefetchDepth = depth;
+			prefetchMemory = memoryBudget;
+		}
+		prefetch();
+		return this;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (pos < batchSize()) {
+			return true;
+		}
+		if (hasMore()) {
+			try {
+				fetchNext().get();
+			} catch (InterruptedException | ExecutionException e) {
+				throw new ArangoDBException(e);
+			}
+			return hasNext();
+		}
+		return false;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return deserialize(result.getResult().get(pos++));
+	}
+
+	@Override
+	public void forEachRemaining(final Consumer<? super T> action) {
+		while (hasNext()) {
+			action.accept(next());
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			closeAsync().get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new ArangoDBException(e);
+		}
+	}
+
+	/**
+	 * Deletes the cursor on the server, if it has not already been exhausted. A batch request still in flight is
+	 * awaited before.
+	 *
+	 * @return void
+	 */
+	public CompletableFuture<Void> closeAsync() {
+		final CompletableFuture<CursorEntity> last;
+		synchronized (prefetched) {
+			prefetchDepth = 0;
+			prefetched.clear();
+			last = lastRequest;
+		}
+		unregister();
+		return last.handle((batch, ex) -> hasMore(batch != null ? batch : result)).thenCompose(more -> {
+			if (getId() != null && more) {
+				return execute.closeAsync(getId());
+			}
+			return CompletableFuture.completedFuture(null);
+		});
+	}
+
+	/**
+	 * Returns the not yet consumed results of the current batch or, if the current batch is exhausted, fetches the next
+	 * batch from the server without blocking the calling thread.
+	 *
+	 * @return the next results of the cursor, an empty list if the cursor is exhausted
+	 */
+	public CompletableFuture<List<T>> nextBatch() {
+		if (pos < batchSize()) {
+			return CompletableFuture.completedFuture(remainingBatch());
+		}
+		if (!hasMore()) {
+			return CompletableFuture.completedFuture(Collections.<T> emptyList());
+		}
+		return fetchNext().thenApply(next -> remainingBatch());
+	}
+
+	/**
+	 * Performs the given action for each remaining element of the cursor. Subsequent batches are fetched
+	 * asynchronously, the action is executed by the thread completing the fetch.
+	 *
+	 * @param action
+	 *            The action to be performed for each element
+	 * @return a future which completes after the action was performed for the last element
+	 */
+	public CompletableFuture<Void> forEachAsync(final Consumer<? super T> action) {
+		return forEachRemaining(() -> {
+			if (pos < batchSize()) {
+				remainingBatch().forEach(action);
+			}
+			return hasMore() ? fetchNext() : null;
+		}, new CompletableFuture<>());
+	}
+
+	/**
+	 * Hands over each remaining batch of the cursor as a single VelocyPack array without deserializing its elements.
+	 * Subsequent batches are fetched asynchronously, the consumer is executed by the thread completing the fetch.
+	 *
+	 * @param consumer
+	 *            The consumer to be called for each batch
+	 * @return a future which completes after the consumer was called for the last batch
+	 */
+	public CompletableFuture<Void> forEachBatch(final BatchConsumer consumer) {
+		return forEachBatch(consumer, new VPackArrayCursor());
+	}
+
+	/**
+	 * Decodes each remaining batch of the cursor into column vectors, one per attribute of the result objects, and
+	 * hands it over to the consumer. Subsequent batches are fetched asynchronously, the consumer is executed by the
+	 * thread completing the fetch.
+	 *
+	 * @param consumer
+	 *            The consumer to be called for each batch
+	 * @return a future which completes after the consumer was called for the last batch
+	 */
+	public CompletableFuture<Void> forEachColumnBatch(final Consumer<? super ArangoColumnBatch> consumer) {
+		final ArangoColumnDecoder decoder = new ArangoColumnDecoder();
+		return forEachBatch((batch, elements) -> consumer.accept(decoder.decode(batch, elements.index() + 1)));
+	}
+
+	private CompletableFuture<Void> forEachBatch(final BatchConsumer consumer, final VPackArrayCursor elements) {
+		return forEachRemaining(() -> {
+			if (pos < batchSize()) {
+				final VPackSlice batch = result.getResult();
+				final int from = pos;
+				pos = batch.size();
+				consumer.accept(batch, elements.reset(batch, from));
+			}
+			return hasMore() ? fetchNext() : null;
+		}, new CompletableFuture<>());
+	}
+
+	/**
+	 * Repeats the given step, which processes the current batch and returns the fetch of the next batch or null if the
+	 * cursor is exhausted. Batches which are already fetched when the step returns, usually because they were
+	 * prefetched, are processed in a loop, so that the stack does not grow with the number of batches.
+	 */
+	private CompletableFuture<Void> forEachRemaining(
+		final Supplier<CompletableFuture<CursorEntity>> step,
+		final CompletableFuture<Void> done) {
+		try {
+			CompletableFuture<CursorEntity> next;
+			while ((next = step.get()) != null) {
+				if (!next.isDone() || next.isCompletedExceptionally()) {
+					next.whenComplete((batch, ex) -> {
+						if (ex != null) {
+							done.completeExceptionally(ex);
+						} else {
+							forEachRemaining(step, done);
+						}
+					});
+					return done;
+				}
+			}
+			done.complete(null);
+		} catch (final RuntimeException e) {
+			done.completeExceptionally(e);
+		}
+		return done;
 	}
 
+	boolean isExhausted() {
+		return pos >= batchSize() && !hasMore();
+	}
+
+	/**
+	 * Returns a sequential stream over the remaining elements of the cursor. The stream can be made parallel, in which
+	 * case it is split along the cursor batches: every already fetched batch is processed as a whole by a different
+	 * thread, while the following batch is fetched in the background. If the query was executed with
+	 * {@code count=true} the stream is sized.
+	 * 
+	 * @return stream over the remaining elements
+	 */
 	public Stream<T> streamRemaining() {
-		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false);
+		return StreamSupport.stream(new ArangoCursorSpliterator<>(this), false);
+	}
+
+	/**
+	 * @return the number of remaining elements, or -1 if the query was not executed with {@code count=true}
+	 */
+	long remaining() {
+		final Integer count = getCount();
+		return count != null ? count - offset - pos : -1;
+	}
+
+	/**
+	 * Hands out the not yet consumed part of the current batch, fetching the next batch first if the current one is
+	 * exhausted, and requests the following batch in the background.
+	 */
+	Spliterator<T> splitBatch() {
+		if (!hasNext()) {
+			return null;
+		}
+		final VPackSlice batch = result.getResult();
+		final int from = pos;
+		final int to = batch.size();
+		pos = to;
+		fetchAhead();
+		return new ArangoCursorSpliterator.BatchSpliterator<>(this, batch, from, to);
+	}
+
+	private CompletableFuture<CursorEntity> fetchNext() {
+		final CompletableFuture<CursorEntity> next;
+		synchronized (prefetched) {
+			next = prefetched.isEmpty() ? request() : prefetched.poll();
+		}
+		return next.thenApply(batch -> {
+			offset += result.getResult().size();
+			result = batch;
+			pos = 0;
+			if (!hasMore(batch)) {
+				unregister();
+			}
+			prefetch();
+			return batch;
+		});
 	}
+
+	private void prefetch() {
+		synchronized (prefetched) {
+			if (prefetched.size() >= prefetchDepth || !lastRequest.isDone() || lastRequest.isCompletedExceptionally()
+					|| !hasMore(lastRequest.join()) || prefetchedBytes() >= prefetchMemory) {
+				return;
+			}
+			final CompletableFuture<CursorEntity> next = request();
+			prefetched.add(next);
+			next.thenRun(this::prefetch);
+		}
+	}
+
+	private void fetchAhead() {
+		synchronized (prefetched) {
+			if (prefetched.isEmpty() && lastRequest.isDone() && !lastRequest.isCompletedExceptionally()
+					&& hasMore(lastRequest.join())) {
+				prefetched.add(request());
+			}
+		}
+	}
+
+	/**
+	 * @return the size of the prefetched batches, batches still in flight are estimated with the size of the current
+	 *         batch
+	 */
+	private long prefetchedBytes() {
+		long bytes = 0;
+		for (final CompletableFuture<CursorEntity> batch : prefetched) {
+			if (!batch.isDone()) {
+				bytes += result.getResult().getByteSize();
+			} else if (!batch.isCompletedExceptionally()) {
+				bytes += batch.join().getResult().getByteSize();
+			}
+		}
+		return bytes;
+	}
+
+	private CompletableFuture<CursorEntity> request() {
+		// the server does not allow concurrent requests on the same cursor
+		lastRequest = lastRequest.thenCompose(last -> execute.nextAsync(getId()));
+		return lastRequest;
+	}
+
+	private void unregister() {
+		if (registration != null) {
+			registration.unregister();
+		}
+	}
+
+	private boolean hasMore() {
+		return hasMore(result);
+	}
+
+	private static boolean hasMore(final CursorEntity batch) {
+		return Boolean.TRUE.equals(batch.getHasMore());
+	}
+
+	private int batchSize() {
+		return result.getResult().size();
+	}
+
+	private List<T> remainingBatch() {
+		final VPackSlice batch = result.getResult();
+		final int size = batch.size();
+		final List<T> remaining = new ArrayList<>(size - pos);
+		for (int i = pos; i < size; i++) {
+			remaining.add(deserialize(batch.get(i)));
+		}
+		pos = size;
+		return remaining;
+	}
+
+	T deserialize(final VPackSlice vpack) {
+		return db.executor().deserialize(vpack, type);
+	}
+
 }
@@ -0,0 +1,125 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Decodes the numeric results of a cursor batch by batch straight into primitive arrays, without boxing a single
+ * value. Reading the elements of a batch still creates one short-lived slice view per value, see
+ * {@link com.arangodb.internal.velocypack.VPackArrayCursor}.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+class ArangoCursorPrimitives {
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	private ArangoCursorPrimitives() {
+		super();
+	}
+
+	static CompletableFuture<LongStream> longs(final ArangoCursorAsync<?> cursor) {
+		final long[][] values = { new long[capacity(cursor)] };
+		final int[] size = { 0 };
+		return cursor.forEachBatch((batch, elements) -> {
+			values[0] = ensureCapacity(values[0], size[0] + elements.remaining());
+			while (elements.next()) {
+				values[0][size[0]++] = toLong(elements.current());
+			}
+		}).thenApply(v -> Arrays.stream(values[0], 0, size[0]));
+	}
+
+	static CompletableFuture<IntStream> ints(final ArangoCursorAsync<?> cursor) {
+		final int[][] values = { new int[capacity(cursor)] };
+		final int[] size = { 0 };
+		return cursor.forEachBatch((batch, elements) -> {
+			values[0] = ensureCapacity(values[0], size[0] + elements.remaining());
+			while (elements.next()) {
+				values[0][size[0]++] = toInt(elements.current());
+			}
+		}).thenApply(v -> Arrays.stream(values[0], 0, size[0]));
+	}
+
+	static CompletableFuture<DoubleStream> doubles(final ArangoCursorAsync<?> cursor) {
+		final double[][] values = { new double[capacity(cursor)] };
+		final int[] size = { 0 };
+		return cursor.forEachBatch((batch, elements) -> {
+			values[0] = ensureCapacity(values[0], size[0] + elements.remaining());
+			while (elements.next()) {
+				values[0][size[0]++] = toDouble(elements.current());
+			}
+		}).thenApply(v -> Arrays.stream(values[0], 0, size[0]));
+	}
+
+	private static int capacity(final ArangoCursorAsync<?> cursor) {
+		final long remaining = cursor.remaining();
+		return remaining >= 0 ? (int) remaining : DEFAULT_CAPACITY;
+	}
+
+	private static long[] ensureCapacity(final long[] values, final int capacity) {
+		return capacity > values.length ? Arrays.copyOf(values, Math.max(capacity, values.length * 2)) : values;
+	}
+
+	private static int[] ensureCapacity(final int[] values, final int capacity) {
+		return capacity > values.length ? Arrays.copyOf(values, Math.max(capacity, values.length * 2)) : values;
+	}
+
+	private static double[] ensureCapacity(final double[] values, final int capacity) {
+		return capacity > values.length ? Arrays.copyOf(values, Math.max(capacity, values.length * 2)) : values;
+	}
+
+	private static long toLong(final VPackSlice value) {
+		if (value.isInteger()) {
+			return value.getAsLong();
+		}
+		if (value.isDouble()) {
+			return (long) value.getAsDouble();
+		}
+		throw new ArangoDBException("Query result is not a number: " + value);
+	}
+
+	private static int toInt(final VPackSlice value) {
+		final long result = toLong(value);
+		if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+			throw new ArangoDBException("Query result is out of int range: " + result);
+		}
+		return (int) result;
+	}
+
+	private static double toDouble(final VPackSlice value) {
+		if (value.isDouble()) {
+			return value.getAsDouble();
+		}
+		if (value.isInteger()) {
+			return value.getAsLong();
+		}
+		throw new ArangoDBException("Query result is not a number: " + value);
+	}
+
+}
@@ -0,0 +1,184 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A cold {@link Publisher} over the results of an AQL query. Every subscription executes the query on its first
+ * request and fetches the next cursor batch only when the current one is emitted and the subscriber signals further
+ * demand. Cancelling the subscription deletes the cursor on the server.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+class ArangoCursorPublisher<T> implements Publisher<T> {
+
+	private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+
+	ArangoCursorPublisher(final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query) {
+		super();
+		this.query = query;
+	}
+
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("subscriber must not be null");
+		}
+		final CursorSubscription<T> subscription = new CursorSubscription<>(subscriber, query);
+		subscriber.onSubscribe(subscription);
+	}
+
+	private static class CursorSubscription<T> implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query;
+		private final AtomicLong requested;
+		private final AtomicInteger wip;
+		private volatile boolean cancelled;
+		private volatile Throwable error;
+		private volatile CompletableFuture<ArangoCursorAsync<T>> cursor;
+		private volatile Iterator<T> batch;
+		private volatile boolean fetching;
+		private boolean terminated;
+
+		private CursorSubscription(final Subscriber<? super T> subscriber,
+			final Supplier<CompletableFuture<ArangoCursorAsync<T>>> query) {
+			super();
+			this.subscriber = subscriber;
+			this.query = query;
+			requested = new AtomicLong();
+			wip = new AtomicInteger();
+			cancelled = false;
+			batch = Collections.<T> emptyList().iterator();
+			fetching = false;
+			terminated = false;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("Requested elements must be positive (Reactive Streams rule 3.9)");
+			} else {
+				long current;
+				long next;
+				do {
+					current = requested.get();
+					next = current + n < 0 ? Long.MAX_VALUE : current + n;
+				} while (!requested.compareAndSet(current, next));
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (terminated) {
+					return;
+				}
+				if (cancelled) {
+					terminate();
+					return;
+				}
+				if (error != null) {
+					terminate();
+					subscriber.onError(error);
+					return;
+				}
+				final long demand = requested.get();
+				long emitted = 0;
+				while (emitted != demand && batch.hasNext()) {
+					if (cancelled) {
+						terminate();
+						return;
+					}
+					try {
+						subscriber.onNext(batch.next());
+					} catch (final RuntimeException e) {
+						cancelled = true;
+						terminate();
+						return;
+					}
+					emitted++;
+				}
+				if (emitted != 0 && demand != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+				if (!batch.hasNext() && !fetching) {
+					if (cursor != null && cursor.join().isExhausted()) {
+						terminate();
+						subscriber.onComplete();
+						return;
+					}
+					if (requested.get() > 0) {
+						fetching = true;
+						if (cursor == null) {
+							cursor = query.get();
+						}
+						fetch();
+					}
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void fetch() {
+			cursor.thenCompose(ArangoCursorAsync::nextBatch).whenComplete((next, ex) -> {
+				if (ex != null) {
+					error = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+				} else {
+					batch = next.iterator();
+				}
+				fetching = false;
+				drain();
+			});
+		}
+
+		private void terminate() {
+			terminated = true;
+			if (cursor != null) {
+				cursor.thenAccept(ArangoCursorAsync::closeAsync);
+			}
+		}
+
+	}
+
+}
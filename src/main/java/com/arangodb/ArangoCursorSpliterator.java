@@ -0,0 +1,125 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Spliterator over the remaining elements of an {@link ArangoCursorAsync}. Splitting hands out the already fetched
+ * part of the current batch, so that it can be processed by another thread while the next batch is fetched.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+class ArangoCursorSpliterator<T> implements Spliterator<T> {
+
+	private final ArangoCursorAsync<T> cursor;
+
+	ArangoCursorSpliterator(final ArangoCursorAsync<T> cursor) {
+		super();
+		this.cursor = cursor;
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super T> action) {
+		if (!cursor.hasNext()) {
+			return false;
+		}
+		action.accept(cursor.next());
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(final Consumer<? super T> action) {
+		cursor.forEachRemaining(action);
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		return cursor.splitBatch();
+	}
+
+	@Override
+	public long estimateSize() {
+		final long remaining = cursor.remaining();
+		return remaining >= 0 ? remaining : Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return cursor.remaining() >= 0 ? ORDERED | SIZED | SUBSIZED : ORDERED;
+	}
+
+	/**
+	 * Spliterator over a range of an already fetched cursor batch. The elements are deserialized by the thread
+	 * traversing the spliterator.
+	 */
+	static class BatchSpliterator<T> implements Spliterator<T> {
+
+		private final ArangoCursorAsync<T> cursor;
+		private final VPackSlice batch;
+		private int from;
+		private final int to;
+
+		BatchSpliterator(final ArangoCursorAsync<T> cursor, final VPackSlice batch, final int from, final int to) {
+			super();
+			this.cursor = cursor;
+			this.batch = batch;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action) {
+			if (from >= to) {
+				return false;
+			}
+			action.accept(cursor.deserialize(batch.get(from++)));
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			final int mid = (from + to) >>> 1;
+			if (mid <= from) {
+				return null;
+			}
+			final BatchSpliterator<T> prefix = new BatchSpliterator<>(cursor, batch, from, mid);
+			from = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return to - from;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+		}
+
+	}
+
+}
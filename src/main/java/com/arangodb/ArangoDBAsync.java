@@ -81,6 +81,16 @@ public class ArangoDBAsync extends InternalArangoDB<ArangoExecutorAsync, Complet
 		private Boolean useSsl;
 		private SSLContext sslContext;
 		private Integer chunksize;
+		private Integer queryResultCacheSize;
+		private Long queryResultCacheTtl;
+		private Boolean queryResultCacheRevisionCheck;
+		private Long documentReadCacheSize;
+		private Long documentReadCacheTtl;
+		private Integer multiDocumentBatchSize;
+		private Long multiDocumentBatchBytes;
+		private Integer multiDocumentParallelism;
+		private Integer parallelSerializationThreshold;
+		private Long metadataCacheTtl;
 		private final VPack.Builder vpackBuilder;
 		private final CollectionCache collectionCache;
 		private final VPackParser vpackParser;
@@ -91,7 +101,7 @@ public class ArangoDBAsync extends InternalArangoDB<ArangoExecutorAsync, Complet
 			collectionCache = new CollectionCache();
 			vpackParser = new VPackParser();
 			VPackConfigure.configure(vpackBuilder, vpackParser, collectionCache);
-			VPackConfigureAsync.configure(vpackBuilder);
+			VPackConfigureAsync.configure(vpackBuilder, collectionCache);
 			loadProperties(ArangoDBAsync.class.getResourceAsStream(DEFAULT_PROPERTY_FILE));
 		}
 
@@ -167,6 +177,126 @@ public class ArangoDBAsync extends InternalArangoDB<ArangoExecutorAsync, Complet
 			return this;
 		}
 
+		/**
+		 * Enables the client-side cache used by {@link ArangoDatabaseAsync#cachedQuery}.
+		 * 
+		 * @param queryResultCacheSize
+		 *            maximum number of cached query results, 0 disables the cache (default)
+		 * @return builder
+		 */
+		public Builder queryResultCacheSize(final Integer queryResultCacheSize) {
+			this.queryResultCacheSize = queryResultCacheSize;
+			return this;
+		}
+
+		/**
+		 * @param queryResultCacheTtl
+		 *            time in milliseconds a query result is served from the client-side cache, 0 for no limit
+		 *            (default)
+		 * @return builder
+		 */
+		public Builder queryResultCacheTtl(final Long queryResultCacheTtl) {
+			this.queryResultCacheTtl = queryResultCacheTtl;
+			return this;
+		}
+
+		/**
+		 * @param queryResultCacheRevisionCheck
+		 *            whether the revisions of the collections involved in a query are compared with the server before
+		 *            a cached result is returned (default false)
+		 * @return builder
+		 */
+		public Builder queryResultCacheRevisionCheck(final Boolean queryResultCacheRevisionCheck) {
+			this.queryResultCacheRevisionCheck = queryResultCacheRevisionCheck;
+			return this;
+		}
+
+		/**
+		 * Enables the client-side cache used by {@link ArangoCollectionAsync#getDocument(String, Class)}.
+		 * 
+		 * @param documentReadCacheSize
+		 *            maximum number of bytes of all cached documents, 0 disables the cache (default)
+		 * @return builder
+		 */
+		public Builder documentReadCacheSize(final Long documentReadCacheSize) {
+			this.documentReadCacheSize = documentReadCacheSize;
+			return this;
+		}
+
+		/**
+		 * @param documentReadCacheTtl
+		 *            time in milliseconds a cached document is returned without asking the server whether its
+		 *            revision changed, 0 to revalidate on every read (default)
+		 * @return builder
+		 */
+		public Builder documentReadCacheTtl(final Long documentReadCacheTtl) {
+			this.documentReadCacheTtl = documentReadCacheTtl;
+			return this;
+		}
+
+		/**
+		 * Splits the documents of multi-document inserts, updates, replaces and deletes into several requests. The
+		 * results of the requests are merged into one result.
+		 * 
+		 * @param multiDocumentBatchSize
+		 *            maximum number of documents sent in one request, 0 for no limit (default)
+		 * @return builder
+		 */
+		public Builder multiDocumentBatchSize(final Integer multiDocumentBatchSize) {
+			this.multiDocumentBatchSize = multiDocumentBatchSize;
+			return this;
+		}
+
+		/**
+		 * @param multiDocumentBatchBytes
+		 *            maximum number of serialized bytes sent in one request of a multi-document operation, a single
+		 *            larger document is sent alone, 0 for no limit (default)
+		 * @return builder
+		 */
+		public Builder multiDocumentBatchBytes(final Long multiDocumentBatchBytes) {
+			this.multiDocumentBatchBytes = multiDocumentBatchBytes;
+			return this;
+		}
+
+		/**
+		 * @param multiDocumentParallelism
+		 *            maximum number of requests of a split multi-document operation in flight at the same time
+		 *            (default 1)
+		 * @return builder
+		 */
+		public Builder multiDocumentParallelism(final Integer multiDocumentParallelism) {
+			this.multiDocumentParallelism = multiDocumentParallelism;
+			return this;
+		}
+
+		/**
+		 * Serializes the documents of large multi-document inserts, updates and replaces in parallel on the common
+		 * {@link java.util.concurrent.ForkJoinPool} instead of the calling thread.
+		 * 
+		 * @param parallelSerializationThreshold
+		 *            minimum number of documents of an operation to be serialized in parallel, 0 disables parallel
+		 *            serialization (default)
+		 * @return builder
+		 */
+		public Builder parallelSerializationThreshold(final Integer parallelSerializationThreshold) {
+			this.parallelSerializationThreshold = parallelSerializationThreshold;
+			return this;
+		}
+
+		/**
+		 * Enables the client-side cache of collection infos, properties, counts and indexes and of the collections of
+		 * a database. Entries are invalidated by changes made through this driver instance, like creating an index
+		 * or renaming a collection. Counts are not invalidated by document operations.
+		 * 
+		 * @param metadataCacheTtl
+		 *            time in milliseconds metadata is served from the cache, 0 disables the cache (default)
+		 * @return builder
+		 */
+		public Builder metadataCacheTtl(final Long metadataCacheTtl) {
+			this.metadataCacheTtl = metadataCacheTtl;
+			return this;
+		}
+
 		public <T> Builder registerSerializer(final Class<T> clazz, final VPackSerializer<T> serializer) {
 			vpackBuilder.registerSerializer(clazz, serializer);
 			return this;
@@ -183,8 +313,23 @@ public class ArangoDBAsync extends InternalArangoDB<ArangoExecutorAsync, Complet
 		}
 
 		public ArangoDBAsync build() {
-			return new ArangoDBAsync(asyncBuilder(), vpackBuilder.build(),
+			final ArangoDBAsync arangoDB = new ArangoDBAsync(asyncBuilder(), vpackBuilder.build(),
 					vpackBuilder.serializeNullValues(true).build(), vpackParser, collectionCache, syncBuilder());
+			arangoDB.executor().queryResultCache().configure(
+				queryResultCacheSize != null ? queryResultCacheSize : 0,
+				queryResultCacheTtl != null ? queryResultCacheTtl : 0L,
+				Boolean.TRUE.equals(queryResultCacheRevisionCheck));
+			arangoDB.executor().documentReadCache().configure(
+				documentReadCacheSize != null ? documentReadCacheSize : 0L,
+				documentReadCacheTtl != null ? documentReadCacheTtl : 0L);
+			arangoDB.executor().multiDocumentSplitter().configure(
+				multiDocumentBatchSize != null ? multiDocumentBatchSize : 0,
+				multiDocumentBatchBytes != null ? multiDocumentBatchBytes : 0L,
+				multiDocumentParallelism != null ? multiDocumentParallelism : 1);
+			arangoDB.executor().parallelSerializer()
+					.configure(parallelSerializationThreshold != null ? parallelSerializationThreshold : 0);
+			arangoDB.executor().metadataCache().configure(metadataCacheTtl != null ? metadataCacheTtl : 0L);
+			return arangoDB;
 		}
 
 		private CommunicationAsync.Builder asyncBuilder() {
@@ -222,6 +367,17 @@ public class ArangoDBAsync extends InternalArangoDB<ArangoExecutorAsync, Complet
 		executor.communication().disconnect();
 	}
 
+	/**
+	 * Returns the number of cursors created by this driver instance, which are neither exhausted nor closed and
+	 * therefore still occupy memory on the server. Cursors which become unreachable are deleted on the server
+	 * automatically.
+	 * 
+	 * @return number of open cursors
+	 */
+	public int getOpenCursorCount() {
+		return executor.cursorTracker().size();
+	}
+
 	/**
 	 * Returns a handler of the system database
 	 * 
@@ -21,9 +21,14 @@
 package com.arangodb;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.reactivestreams.Publisher;
 
 import com.arangodb.entity.AqlExecutionExplainEntity;
 import com.arangodb.entity.AqlFunctionEntity;
@@ -38,11 +43,13 @@ import com.arangodb.entity.QueryCachePropertiesEntity;
 import com.arangodb.entity.QueryEntity;
 import com.arangodb.entity.QueryTrackingPropertiesEntity;
 import com.arangodb.entity.TraversalEntity;
-import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.ArangoCursorAsyncExecute;
 import com.arangodb.internal.ArangoExecutorAsync;
 import com.arangodb.internal.CollectionCache;
 import com.arangodb.internal.DocumentCache;
 import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.MetadataCache;
+import com.arangodb.internal.QueryResultCache;
 import com.arangodb.internal.velocystream.CommunicationAsync;
 import com.arangodb.internal.velocystream.ConnectionAsync;
 import com.arangodb.model.AqlFunctionCreateOptions;
@@ -59,6 +66,7 @@ import com.arangodb.model.TraversalOptions;
 import com.arangodb.velocypack.Type;
 import com.arangodb.velocypack.VPack;
 import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
 
@@ -69,6 +77,8 @@ import com.arangodb.velocystream.Response;
 public class ArangoDatabaseAsync
 		extends InternalArangoDatabase<ArangoExecutorAsync, CompletableFuture<Response>, ConnectionAsync> {
 
+	static final String METADATA_COLLECTIONS = "collections";
+
 	protected ArangoDatabaseAsync(final ArangoDBAsync arangoDB, final String name) {
 		super(arangoDB.executor(), name);
 	}
@@ -84,6 +94,21 @@ public class ArangoDatabaseAsync
 		return executor;
 	}
 
+	/**
+	 * Removes the cached collections of this database and the cached metadata of the given collection, if not null,
+	 * once the change completed.
+	 */
+	<R> CompletableFuture<R> invalidateMetadata(final String collection, final CompletableFuture<R> change) {
+		final MetadataCache cache = executor.metadataCache();
+		change.whenComplete((r, ex) -> {
+			if (collection != null) {
+				cache.removePrefix(MetadataCache.key(name(), collection, ""));
+			}
+			cache.removePrefix(MetadataCache.key(name(), "", METADATA_COLLECTIONS));
+		});
+		return change;
+	}
+
 	/**
 	 * Returns a handler of the collection by the given name
 	 * 
@@ -107,7 +132,8 @@ public class ArangoDatabaseAsync
 	 * @return information about the collection
 	 */
 	public CompletableFuture<CollectionEntity> createCollection(final String name) {
-		return executor.execute(createCollectionRequest(name, new CollectionCreateOptions()), CollectionEntity.class);
+		return invalidateMetadata(name,
+			executor.execute(createCollectionRequest(name, new CollectionCreateOptions()), CollectionEntity.class));
 	}
 
 	/**
@@ -124,7 +150,8 @@ public class ArangoDatabaseAsync
 	public CompletableFuture<CollectionEntity> createCollection(
 		final String name,
 		final CollectionCreateOptions options) {
-		return executor.execute(createCollectionRequest(name, options), CollectionEntity.class);
+		return invalidateMetadata(name,
+			executor.execute(createCollectionRequest(name, options), CollectionEntity.class));
 	}
 
 	/**
@@ -135,8 +162,7 @@ public class ArangoDatabaseAsync
 	 * @return list of information about all collections
 	 */
 	public CompletableFuture<Collection<CollectionEntity>> getCollections() {
-		return executor.execute(getCollectionsRequest(new CollectionsReadOptions()),
-			getCollectionsResponseDeserializer());
+		return getCollections(new CollectionsReadOptions());
 	}
 
 	/**
@@ -149,7 +175,10 @@ public class ArangoDatabaseAsync
 	 * @return list of information about all collections
 	 */
 	public CompletableFuture<Collection<CollectionEntity>> getCollections(final CollectionsReadOptions options) {
-		return executor.execute(getCollectionsRequest(options), getCollectionsResponseDeserializer());
+		final Boolean excludeSystem = options != null ? options.getExcludeSystem() : null;
+		return executor.metadataCache().get(
+			MetadataCache.key(name(), "", METADATA_COLLECTIONS + "/" + Boolean.TRUE.equals(excludeSystem)),
+			() -> executor.execute(getCollectionsRequest(options), getCollectionsResponseDeserializer()));
 	}
 
 	/**
@@ -173,7 +202,9 @@ public class ArangoDatabaseAsync
 	 * @return the id of the index
 	 */
 	public CompletableFuture<String> deleteIndex(final String id) {
-		return executor.execute(deleteIndexRequest(id), deleteIndexResponseDeserializer());
+		final int separator = id.indexOf('/');
+		return invalidateMetadata(separator > 0 ? id.substring(0, separator) : null,
+			executor.execute(deleteIndexRequest(id), deleteIndexResponseDeserializer()));
 	}
 
 	/**
@@ -184,7 +215,9 @@ public class ArangoDatabaseAsync
 	 * @return true if the database was dropped successfully
 	 */
 	public CompletableFuture<Boolean> drop() {
-		return executor.execute(dropRequest(), createDropResponseDeserializer());
+		final CompletableFuture<Boolean> drop = executor.execute(dropRequest(), createDropResponseDeserializer());
+		drop.whenComplete((r, ex) -> executor.metadataCache().removePrefix(name() + "/"));
+		return drop;
 	}
 
 	/**
@@ -235,33 +268,220 @@ public class ArangoDatabaseAsync
 		final Map<String, Object> bindVars,
 		final AqlQueryOptions options,
 		final Class<T> type) throws ArangoDBException {
-		final Request request = queryRequest(query, bindVars, options);
+		return query(queryRequest(query, bindVars, options), type);
+	}
+
+	/**
+	 * Serializes the query string and options of an AQL query once, so that repeated executions only have to serialize
+	 * the bind parameters.
+	 * 
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param options
+	 *            Additional options, can be null
+	 * @return the prepared query
+	 */
+	public ArangoPreparedQuery prepare(final String query, final AqlQueryOptions options) {
+		return new ArangoPreparedQuery(this, queryRequest(query, null, options));
+	}
+
+	<T> CompletableFuture<ArangoCursorAsync<T>> query(final Request request, final Class<T> type) {
 		final CompletableFuture<CursorEntity> execution = executor.execute(request, CursorEntity.class);
-		return execution.thenApply(result -> {
-			return new ArangoCursorAsync<>(this, new ArangoCursorExecute() {
-				@Override
-				public CursorEntity next(final String id) {
-					final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id),
-						CursorEntity.class);
-					try {
-						return result.get();
-					} catch (InterruptedException | ExecutionException e) {
-						throw new ArangoDBException(e);
+		final CompletableFuture<ArangoCursorAsync<T>> cursor = execution
+				.thenApply(result -> createCursor(result, type));
+		cursor.whenComplete((c, ex) -> {
+			if (cursor.isCancelled()) {
+				// the response is still needed to delete the cursor on the server
+				execution.thenAccept(result -> {
+					if (result.getId() != null && Boolean.TRUE.equals(result.getHasMore())) {
+						executor.execute(queryCloseRequest(result.getId()), Void.class);
 					}
-				}
+				});
+			}
+		});
+		return cursor;
+	}
 
-				@Override
-				public void close(final String id) {
-					try {
-						executor.execute(queryCloseRequest(id), Void.class).get();
-					} catch (InterruptedException | ExecutionException e) {
-						throw new ArangoDBException(e);
-					}
-				}
-			}, type, result);
+	/**
+	 * Create a cursor and return the first results, served from the client-side query result cache if possible. The
+	 * cache has to be enabled with {@link ArangoDBAsync.Builder#queryResultCacheSize(Integer)}, otherwise the query is
+	 * always executed. Only results which fit into the first batch are cached. Entries are identified by the query
+	 * string, the bind parameters and the options. With
+	 * {@link ArangoDBAsync.Builder#queryResultCacheRevisionCheck(Boolean)} a cached result is only returned if the
+	 * revisions of all collections involved in the query are unchanged. Use only for read-only queries.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters
+	 * @param options
+	 *            Additional options, can be null
+	 * @param type
+	 *            The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+	 * @return cursor of the results
+	 */
+	public <T> CompletableFuture<ArangoCursorAsync<T>> cachedQuery(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<T> type) throws ArangoDBException {
+		final QueryResultCache cache = executor.queryResultCache();
+		if (!cache.isEnabled()) {
+			return query(query, bindVars, options, type);
+		}
+		final Request request = queryRequest(query, bindVars, options);
+		final QueryResultCache.Key key = cache.key(name(), request.getBody());
+		final QueryResultCache.Entry cached = cache.get(key);
+		if (cached == null) {
+			return executeCachedQuery(query, request, key, type);
+		}
+		if (cached.getRevisions() == null) {
+			return CompletableFuture.completedFuture(createCursor(cached.getResult(), type));
+		}
+		return getRevisions(cached.getRevisions().keySet()).thenCompose(revisions -> {
+			if (revisions.equals(cached.getRevisions())) {
+				return CompletableFuture.completedFuture(createCursor(cached.getResult(), type));
+			}
+			cache.remove(key);
+			return executeCachedQuery(query, request, key, type);
 		});
 	}
 
+	private <T> CompletableFuture<ArangoCursorAsync<T>> executeCachedQuery(
+		final String query,
+		final Request request,
+		final QueryResultCache.Key key,
+		final Class<T> type) {
+		final QueryResultCache cache = executor.queryResultCache();
+		// revisions are taken before the query, a concurrent write therefore invalidates the cached result
+		final CompletableFuture<Map<String, String>> revisions = cache.isRevisionCheck()
+				? parseQuery(query).thenCompose(parse -> getRevisions(parse.getCollections()))
+				: CompletableFuture.completedFuture(null);
+		return revisions.thenCompose(
+			revs -> executor.<CursorEntity> execute(request, CursorEntity.class).thenApply(result -> {
+				cache.put(key, result, revs);
+				return createCursor(result, type);
+			}));
+	}
+
+	private CompletableFuture<Map<String, String>> getRevisions(final Collection<String> collections) {
+		final Map<String, String> revisions = new HashMap<>();
+		CompletableFuture<Void> all = CompletableFuture.completedFuture(null);
+		for (final String name : collections) {
+			all = all.thenCombine(collection(name).getRevision(), (v, revision) -> {
+				synchronized (revisions) {
+					revisions.put(name, revision.getRevision());
+				}
+				return null;
+			});
+		}
+		return all.thenApply(v -> revisions);
+	}
+
+	/**
+	 * Returns a publisher of the results of an AQL query. Each subscription executes the query when the subscriber
+	 * requests the first element. Further cursor batches are only fetched when the demand of the subscriber requires
+	 * it. Cancelling the subscription deletes the cursor on the server.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters
+	 * @param options
+	 *            Additional options, can be null
+	 * @param type
+	 *            The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+	 * @return publisher of the results
+	 */
+	public <T> Publisher<T> queryPublisher(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options,
+		final Class<T> type) {
+		return new ArangoCursorPublisher<>(() -> query(query, bindVars, options, type));
+	}
+
+	/**
+	 * Executes an AQL query returning integral numbers and decodes all results into a primitive stream, without boxing
+	 * a single value. Fractional numbers are truncated.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters
+	 * @param options
+	 *            Additional options, can be null
+	 * @return all results of the query
+	 */
+	public CompletableFuture<LongStream> queryLongs(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options) throws ArangoDBException {
+		return query(query, bindVars, options, VPackSlice.class).thenCompose(ArangoCursorPrimitives::longs);
+	}
+
+	/**
+	 * Executes an AQL query returning integral numbers and decodes all results into a primitive stream, without boxing
+	 * a single value. Fractional numbers are truncated.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters
+	 * @param options
+	 *            Additional options, can be null
+	 * @return all results of the query
+	 */
+	public CompletableFuture<IntStream> queryInts(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options) throws ArangoDBException {
+		return query(query, bindVars, options, VPackSlice.class).thenCompose(ArangoCursorPrimitives::ints);
+	}
+
+	/**
+	 * Executes an AQL query returning numbers and decodes all results into a primitive stream, without boxing a
+	 * single value.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param query
+	 *            contains the query string to be executed
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters
+	 * @param options
+	 *            Additional options, can be null
+	 * @return all results of the query
+	 */
+	public CompletableFuture<DoubleStream> queryDoubles(
+		final String query,
+		final Map<String, Object> bindVars,
+		final AqlQueryOptions options) throws ArangoDBException {
+		return query(query, bindVars, options, VPackSlice.class).thenCompose(ArangoCursorPrimitives::doubles);
+	}
+
+	protected <T> ArangoCursorAsync<T> createCursor(final CursorEntity result, final Class<T> type) {
+		return new ArangoCursorAsync<>(this, new ArangoCursorAsyncExecute() {
+			@Override
+			public CompletableFuture<CursorEntity> nextAsync(final String id) {
+				return executor.execute(queryNextRequest(id), CursorEntity.class);
+			}
+
+			@Override
+			public CompletableFuture<Void> closeAsync(final String id) {
+				return executor.execute(queryCloseRequest(id), Void.class);
+			}
+		}, type, result);
+	}
+
 	/**
 	 * Explain an AQL query and return information about it
 	 * 
@@ -492,8 +712,7 @@ public class ArangoDatabaseAsync
 	public CompletableFuture<GraphEntity> createGraph(
 		final String name,
 		final Collection<EdgeDefinition> edgeDefinitions) {
-		return executor.execute(createGraphRequest(name, edgeDefinitions, new GraphCreateOptions()),
-			createGraphResponseDeserializer());
+		return createGraph(name, edgeDefinitions, new GraphCreateOptions());
 	}
 
 	/**
@@ -514,7 +733,8 @@ public class ArangoDatabaseAsync
 		final String name,
 		final Collection<EdgeDefinition> edgeDefinitions,
 		final GraphCreateOptions options) {
-		return executor.execute(createGraphRequest(name, edgeDefinitions, options), createGraphResponseDeserializer());
+		return invalidateMetadata(null,
+			executor.execute(createGraphRequest(name, edgeDefinitions, options), createGraphResponseDeserializer()));
 	}
 
 	/**
@@ -0,0 +1,62 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.arangodb.internal.MicroBatcher;
+
+/**
+ * Coalesces concurrent single document reads into one multi-key read, see
+ * {@link ArangoCollectionAsync#documentLoader(com.arangodb.model.async.DocumentBatchOptions, Class)}. The instance is
+ * thread-safe and meant to be shared by all threads reading from the collection.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ArangoDocumentLoader<T> {
+
+	private final MicroBatcher<String, T> batcher;
+
+	ArangoDocumentLoader(final MicroBatcher<String, T> batcher) {
+		super();
+		this.batcher = batcher;
+	}
+
+	/**
+	 * Reads a single document, together with other documents read concurrently.
+	 *
+	 * @param key
+	 *            The key of the document
+	 * @return the document identified by the key, null if it does not exist
+	 */
+	public CompletableFuture<T> getDocument(final String key) {
+		return batcher.add(key);
+	}
+
+	/**
+	 * Sends the pending reads immediately.
+	 */
+	public void flush() {
+		batcher.flush();
+	}
+
+}
@@ -20,18 +20,40 @@
 
 package com.arangodb;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import com.arangodb.entity.BaseEdgeDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.EdgeDefinition;
 import com.arangodb.entity.EdgeEntity;
 import com.arangodb.entity.EdgeUpdateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.internal.ArangoExecutorAsync;
+import com.arangodb.internal.BoundedForEach;
 import com.arangodb.internal.InternalArangoEdgeCollection;
 import com.arangodb.internal.velocystream.ConnectionAsync;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentDeleteOptions;
 import com.arangodb.model.DocumentReadOptions;
+import com.arangodb.model.DocumentReplaceOptions;
+import com.arangodb.model.DocumentUpdateOptions;
 import com.arangodb.model.EdgeCreateOptions;
 import com.arangodb.model.EdgeDeleteOptions;
 import com.arangodb.model.EdgeReplaceOptions;
 import com.arangodb.model.EdgeUpdateOptions;
+import com.arangodb.model.async.DocumentBatchOptions;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Response;
 
 /**
@@ -41,8 +63,16 @@ import com.arangodb.velocystream.Response;
 public class ArangoEdgeCollectionAsync
 		extends InternalArangoEdgeCollection<ArangoExecutorAsync, CompletableFuture<Response>, ConnectionAsync> {
 
+	private static final String FROM = "_from";
+	private static final String TO = "_to";
+	private static final int DEFAULT_LOOKUP_BATCH_SIZE = 1000;
+	private static final int DEFAULT_LOOKUP_PARALLELISM = 4;
+
+	private final ArangoGraphAsync graph;
+
 	protected ArangoEdgeCollectionAsync(final ArangoGraphAsync graph, final String name) {
 		super(graph.executor(), graph.db(), graph.name(), name);
+		this.graph = graph;
 	}
 
 	/**
@@ -55,7 +85,7 @@ public class ArangoEdgeCollectionAsync
 	 */
 	public <T> CompletableFuture<EdgeEntity> insertEdge(final T value) {
 		return executor.execute(insertEdgeRequest(value, new EdgeCreateOptions()),
-			insertEdgeResponseDeserializer(value));
+			graph.database().collection(name()).addingToKeyFilter(insertEdgeResponseDeserializer(value)));
 	}
 
 	/**
@@ -69,7 +99,8 @@ public class ArangoEdgeCollectionAsync
 	 * @return information about the edge
 	 */
 	public <T> CompletableFuture<EdgeEntity> insertEdge(final T value, final EdgeCreateOptions options) {
-		return executor.execute(insertEdgeRequest(value, options), insertEdgeResponseDeserializer(value));
+		return executor.execute(insertEdgeRequest(value, options),
+			graph.database().collection(name()).addingToKeyFilter(insertEdgeResponseDeserializer(value)));
 	}
 
 	/**
@@ -200,4 +231,231 @@ public class ArangoEdgeCollectionAsync
 		return executor.execute(deleteEdgeRequest(key, options), Void.class);
 	}
 
+	/**
+	 * Creates new edges in the collection. Before any edge is sent, the edges are validated against the edge
+	 * definition of the graph: _from and _to have to reference existing vertices in the collections allowed by the
+	 * definition. The edges are then sent in batches with the multi-document API.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#create-document">API
+	 *      Documentation</a>
+	 * @param values
+	 *            A List of edges (POJO, VPackSlice or String for Json)
+	 * @param options
+	 *            Additional options, can be null
+	 * @param batchOptions
+	 *            The number of edges sent in one request (default 1000) and the maximum number of requests in flight
+	 *            (default 4), also used for the lookup of the vertices, can be null
+	 * @return information about the edges
+	 */
+	public <T> CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<T>>> insertEdges(
+		final Collection<T> values,
+		final EdgeCreateOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentCreateOptions params = new DocumentCreateOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return validateEdges(values, true, batchOptions).thenCompose(
+			v -> collection.executeBatches(values, batchOptions, batch -> collection.insertDocuments(batch, params)));
+	}
+
+	/**
+	 * Fetches existing edges. The edges are looked up in batches with AQL queries.
+	 * 
+	 * @param keys
+	 *            The keys of the edges
+	 * @param type
+	 *            The type of the edge-document (POJO class, VPackSlice or String for Json)
+	 * @param batchOptions
+	 *            The number of keys looked up by one query (default 1000) and the maximum number of queries running
+	 *            at the same time (default 4), can be null
+	 * @return the edges in the order of the keys, null for edges which do not exist
+	 */
+	public <T> CompletableFuture<List<T>> getEdges(
+		final Collection<String> keys,
+		final Class<T> type,
+		final DocumentBatchOptions batchOptions) {
+		return graph.database().collection(name()).lookupDocuments(keys, type, batchOptions);
+	}
+
+	/**
+	 * Replaces the edges identified by the _key attributes of the given edges. The edges are validated like in
+	 * {@link #insertEdges(Collection, EdgeCreateOptions, DocumentBatchOptions)} and then sent in batches with the
+	 * multi-document API.
+	 * 
+	 * @see <a href=
+	 *      "https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#replace-documents">API
+	 *      Documentation</a>
+	 * @param values
+	 *            A List of edges (POJO, VPackSlice or String for Json)
+	 * @param options
+	 *            Additional options, can be null. ifMatch is not supported, use the _rev attribute of the edges
+	 *            instead.
+	 * @param batchOptions
+	 *            The number of edges sent in one request (default 1000) and the maximum number of requests in flight
+	 *            (default 4), also used for the lookup of the vertices, can be null
+	 * @return information about the edges
+	 */
+	public <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> replaceEdges(
+		final Collection<T> values,
+		final EdgeReplaceOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentReplaceOptions params = new DocumentReplaceOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return validateEdges(values, true, batchOptions).thenCompose(
+			v -> collection.executeBatches(values, batchOptions, batch -> collection.replaceDocuments(batch, params)));
+	}
+
+	/**
+	 * Partially updates the edges identified by the _key attributes of the given edges. A _from or _to attribute in
+	 * the patch documents is validated like in
+	 * {@link #insertEdges(Collection, EdgeCreateOptions, DocumentBatchOptions)}. The edges are then sent in batches
+	 * with the multi-document API.
+	 * 
+	 * @see <a href=
+	 *      "https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#update-documents">API
+	 *      Documentation</a>
+	 * @param values
+	 *            A List of edges with the attributes to patch (POJO, VPackSlice or String for Json)
+	 * @param options
+	 *            Additional options, can be null. ifMatch is not supported, use the _rev attribute of the edges
+	 *            instead.
+	 * @param batchOptions
+	 *            The number of edges sent in one request (default 1000) and the maximum number of requests in flight
+	 *            (default 4), also used for the lookup of the vertices, can be null
+	 * @return information about the edges
+	 */
+	public <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> updateEdges(
+		final Collection<T> values,
+		final EdgeUpdateOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentUpdateOptions params = new DocumentUpdateOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null)
+				.keepNull(options != null ? options.getKeepNull() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return validateEdges(values, false, batchOptions).thenCompose(
+			v -> collection.executeBatches(values, batchOptions, batch -> collection.updateDocuments(batch, params)));
+	}
+
+	/**
+	 * Removes edges. The keys are sent in batches with the multi-document API.
+	 * 
+	 * @see <a href=
+	 *      "https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#removes-multiple-documents">API
+	 *      Documentation</a>
+	 * @param keys
+	 *            The keys of the edges
+	 * @param options
+	 *            Additional options, can be null
+	 * @param batchOptions
+	 *            The number of keys sent in one request (default 1000) and the maximum number of requests in flight
+	 *            (default 4), can be null
+	 * @return information about the edges
+	 */
+	public CompletableFuture<MultiDocumentEntity<DocumentDeleteEntity<Void>>> deleteEdges(
+		final Collection<String> keys,
+		final EdgeDeleteOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentDeleteOptions params = new DocumentDeleteOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return collection.executeBatches(keys, batchOptions,
+			batch -> collection.deleteDocuments(batch, Void.class, params));
+	}
+
+	/**
+	 * Checks that every _from and _to of the given edges references a vertex collection allowed by the edge
+	 * definition of this collection, and that the referenced vertices exist. The vertices of all collections are
+	 * looked up in batches with at most {@code batchOptions.parallelism} queries in flight. The lookup bypasses the
+	 * key filters of the vertex collections, which may not know vertices inserted by other means.
+	 * 
+	 * @param complete
+	 *            whether _from and _to are required
+	 */
+	private <T> CompletableFuture<Void> validateEdges(
+		final Collection<T> values,
+		final boolean complete,
+		final DocumentBatchOptions batchOptions) {
+		return graph.getInfo().thenCompose(info -> {
+			EdgeDefinition definition = null;
+			for (final EdgeDefinition edgeDefinition : info.getEdgeDefinitions()) {
+				if (name().equals(edgeDefinition.getCollection())) {
+					definition = edgeDefinition;
+				}
+			}
+			if (definition == null) {
+				throw new ArangoDBException(
+						String.format("Collection %s is not an edge collection of graph %s", name(), graph.name()));
+			}
+			final Map<String, Set<String>> vertices = new HashMap<>();
+			for (final T value : values) {
+				final String from;
+				final String to;
+				if (value instanceof BaseEdgeDocument) {
+					from = ((BaseEdgeDocument) value).getFrom();
+					to = ((BaseEdgeDocument) value).getTo();
+				} else {
+					final VPackSlice edge = value instanceof VPackSlice ? (VPackSlice) value
+							: executor.serialize(value);
+					from = vertexId(edge, FROM);
+					to = vertexId(edge, TO);
+				}
+				addVertex(from, FROM, definition.getFrom(), complete, vertices);
+				addVertex(to, TO, definition.getTo(), complete, vertices);
+			}
+			final Integer maxBatchSize = batchOptions != null ? batchOptions.getMaxBatchSize() : null;
+			final Integer parallelism = batchOptions != null ? batchOptions.getParallelism() : null;
+			final int batchSize = Math.max(1, maxBatchSize != null ? maxBatchSize : DEFAULT_LOOKUP_BATCH_SIZE);
+			final List<Entry<String, List<String>>> lookups = new ArrayList<>();
+			for (final Entry<String, Set<String>> entry : vertices.entrySet()) {
+				final List<String> keys = new ArrayList<>(entry.getValue());
+				for (int offset = 0; offset < keys.size(); offset += batchSize) {
+					lookups.add(new SimpleImmutableEntry<>(entry.getKey(),
+							keys.subList(offset, Math.min(keys.size(), offset + batchSize))));
+				}
+			}
+			return BoundedForEach.run(lookups.iterator(),
+				parallelism != null ? parallelism : DEFAULT_LOOKUP_PARALLELISM,
+				lookup -> graph.database().collection(lookup.getKey()).existingKeys(lookup.getValue())
+						.thenAccept(existing -> checkVerticesExist(lookup.getKey(), lookup.getValue(), existing)));
+		});
+	}
+
+	private static String vertexId(final VPackSlice edge, final String attribute) {
+		final VPackSlice id = edge.isObject() ? edge.get(attribute) : null;
+		return id != null && id.isString() ? id.getAsString() : null;
+	}
+
+	private void addVertex(
+		final String id,
+		final String attribute,
+		final Collection<String> allowed,
+		final boolean required,
+		final Map<String, Set<String>> vertices) {
+		if (id == null) {
+			if (required) {
+				throw new ArangoDBException(String.format("Edge without %s in collection %s", attribute, name()));
+			}
+			return;
+		}
+		final int separator = id.indexOf('/');
+		final String collection = separator > 0 ? id.substring(0, separator) : null;
+		if (collection == null || !allowed.contains(collection)) {
+			throw new ArangoDBException(String.format("Edge with %s %s not allowed by the edge definition of %s",
+				attribute, id, name()));
+		}
+		vertices.computeIfAbsent(collection, c -> new LinkedHashSet<>()).add(id.substring(separator + 1));
+	}
+
+	private static void checkVerticesExist(
+		final String collection,
+		final List<String> keys,
+		final Set<String> existing) {
+		for (final String key : keys) {
+			if (!existing.contains(key)) {
+				throw new ArangoDBException(String.format("Vertex %s/%s not found", collection, key));
+			}
+		}
+	}
+
 }
@@ -37,14 +37,21 @@ import com.arangodb.velocystream.Response;
 public class ArangoGraphAsync
 		extends InternalArangoGraph<ArangoExecutorAsync, CompletableFuture<Response>, ConnectionAsync> {
 
+	private final ArangoDatabaseAsync database;
+
 	protected ArangoGraphAsync(final ArangoDatabaseAsync db, final String name) {
 		super(db.executor(), db.name(), name);
+		database = db;
 	}
 
 	protected ArangoExecutorAsync executor() {
 		return executor;
 	}
 
+	protected ArangoDatabaseAsync database() {
+		return database;
+	}
+
 	/**
 	 * Delete an existing graph
 	 * 
@@ -87,7 +94,8 @@ public class ArangoGraphAsync
 	 * @return information about the graph
 	 */
 	public CompletableFuture<GraphEntity> addVertexCollection(final String name) {
-		return executor.execute(addVertexCollectionRequest(name), addVertexCollectionResponseDeserializer());
+		return database.invalidateMetadata(null,
+			executor.execute(addVertexCollectionRequest(name), addVertexCollectionResponseDeserializer()));
 	}
 
 	/**
@@ -132,7 +140,8 @@ public class ArangoGraphAsync
 	 * @return information about the graph
 	 */
 	public CompletableFuture<GraphEntity> addEdgeDefinition(final EdgeDefinition definition) {
-		return executor.execute(addEdgeDefinitionRequest(definition), addEdgeDefinitionResponseDeserializer());
+		return database.invalidateMetadata(null,
+			executor.execute(addEdgeDefinitionRequest(definition), addEdgeDefinitionResponseDeserializer()));
 	}
 
 	/**
@@ -146,7 +155,8 @@ public class ArangoGraphAsync
 	 * @return information about the graph
 	 */
 	public CompletableFuture<GraphEntity> replaceEdgeDefinition(final EdgeDefinition definition) {
-		return executor.execute(replaceEdgeDefinitionRequest(definition), replaceEdgeDefinitionResponseDeserializer());
+		return database.invalidateMetadata(null, executor.execute(replaceEdgeDefinitionRequest(definition),
+			replaceEdgeDefinitionResponseDeserializer()));
 	}
 
 	/**
@@ -0,0 +1,66 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.internal.MicroBatcher;
+
+/**
+ * Coalesces concurrent single document inserts into one multi-document insert, see
+ * {@link ArangoCollectionAsync#insertBatcher(com.arangodb.model.async.DocumentBatchOptions, com.arangodb.model.DocumentCreateOptions)}.
+ * The instance is thread-safe and meant to be shared by all threads inserting into the collection.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ArangoInsertBatcher<T> {
+
+	private final MicroBatcher<T, DocumentCreateEntity<T>> batcher;
+
+	ArangoInsertBatcher(final MicroBatcher<T, DocumentCreateEntity<T>> batcher) {
+		super();
+		this.batcher = batcher;
+	}
+
+	/**
+	 * Creates a new document from the given document, together with other documents inserted concurrently. An error
+	 * inserting this document only fails the returned future.
+	 *
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#create-document">API
+	 *      Documentation</a>
+	 * @param value
+	 *            A representation of a single document (POJO, VPackSlice or String for Json)
+	 * @return information about the document
+	 */
+	public CompletableFuture<DocumentCreateEntity<T>> insertDocument(final T value) {
+		return batcher.add(value);
+	}
+
+	/**
+	 * Sends the pending inserts immediately.
+	 */
+	public void flush() {
+		batcher.flush();
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Publisher} merging the elements of several publishers in the order they arrive. All sources are subscribed
+ * on the first request and each of them may be ahead of the subscriber by at most {@code prefetch} elements.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+class ArangoMergedPublisher<T> implements Publisher<T> {
+
+	private final List<Publisher<T>> sources;
+	private final int prefetch;
+
+	ArangoMergedPublisher(final List<Publisher<T>> sources, final int prefetch) {
+		super();
+		this.sources = sources;
+		this.prefetch = Math.max(1, prefetch);
+	}
+
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("subscriber must not be null");
+		}
+		subscriber.onSubscribe(new MergeSubscription<>(subscriber, sources, prefetch));
+	}
+
+	private static class MergeSubscription<T> implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final List<Publisher<T>> sources;
+		private final int prefetch;
+		private final List<Source<T>> subscribed;
+		private final Queue<Signal<T>> queue;
+		private final AtomicLong requested;
+		private final AtomicInteger wip;
+		private final AtomicInteger completed;
+		private volatile boolean started;
+		private volatile boolean cancelled;
+		private volatile Throwable error;
+		private boolean terminated;
+
+		private MergeSubscription(final Subscriber<? super T> subscriber, final List<Publisher<T>> sources,
+			final int prefetch) {
+			super();
+			this.subscriber = subscriber;
+			this.sources = sources;
+			this.prefetch = prefetch;
+			subscribed = new ArrayList<>();
+			queue = new ConcurrentLinkedQueue<>();
+			requested = new AtomicLong();
+			wip = new AtomicInteger();
+			completed = new AtomicInteger();
+			started = false;
+			cancelled = false;
+			terminated = false;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("Requested elements must be positive (Reactive Streams rule 3.9)");
+			} else {
+				long current;
+				long next;
+				do {
+					current = requested.get();
+					next = current + n < 0 ? Long.MAX_VALUE : current + n;
+				} while (!requested.compareAndSet(current, next));
+				start();
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		private void start() {
+			synchronized (subscribed) {
+				if (started) {
+					return;
+				}
+				started = true;
+				for (final Publisher<T> publisher : sources) {
+					final Source<T> source = new Source<>(this);
+					subscribed.add(source);
+					publisher.subscribe(source);
+				}
+			}
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (terminated) {
+					return;
+				}
+				if (cancelled) {
+					terminate();
+					return;
+				}
+				if (error != null) {
+					terminate();
+					subscriber.onError(error);
+					return;
+				}
+				final long demand = requested.get();
+				long emitted = 0;
+				Signal<T> signal;
+				while (emitted != demand && (signal = queue.poll()) != null) {
+					try {
+						subscriber.onNext(signal.value);
+					} catch (final RuntimeException e) {
+						cancelled = true;
+						terminate();
+						return;
+					}
+					signal.source.consumed();
+					emitted++;
+				}
+				if (emitted != 0 && demand != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+				if (started && queue.isEmpty() && completed.get() == sources.size()) {
+					terminated = true;
+					subscriber.onComplete();
+					return;
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void terminate() {
+			terminated = true;
+			queue.clear();
+			synchronized (subscribed) {
+				for (final Source<T> source : subscribed) {
+					source.cancel();
+				}
+			}
+		}
+
+	}
+
+	private static class Signal<T> {
+		private final Source<T> source;
+		private final T value;
+
+		private Signal(final Source<T> source, final T value) {
+			super();
+			this.source = source;
+			this.value = value;
+		}
+	}
+
+	private static class Source<T> implements Subscriber<T> {
+
+		private final MergeSubscription<T> parent;
+		private volatile Subscription subscription;
+		private int consumed;
+
+		private Source(final MergeSubscription<T> parent) {
+			super();
+			this.parent = parent;
+			consumed = 0;
+		}
+
+		@Override
+		public void onSubscribe(final Subscription s) {
+			subscription = s;
+			s.request(parent.prefetch);
+		}
+
+		@Override
+		public void onNext(final T t) {
+			parent.queue.add(new Signal<>(this, t));
+			parent.drain();
+		}
+
+		@Override
+		public void onError(final Throwable t) {
+			parent.error = t;
+			parent.drain();
+		}
+
+		@Override
+		public void onComplete() {
+			parent.completed.incrementAndGet();
+			parent.drain();
+		}
+
+		/**
+		 * Called by the drain loop only. Replenishes the demand of the source after half of the prefetched elements
+		 * were emitted.
+		 */
+		private void consumed() {
+			consumed++;
+			if (consumed >= (parent.prefetch + 1) / 2) {
+				subscription.request(consumed);
+				consumed = 0;
+			}
+		}
+
+		private void cancel() {
+			final Subscription s = subscription;
+			if (s != null) {
+				s.cancel();
+			}
+		}
+
+	}
+
+}
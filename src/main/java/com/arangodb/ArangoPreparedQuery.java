@@ -0,0 +1,91 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Request;
+
+/**
+ * An AQL query whose query string and options were serialized once, see
+ * {@link ArangoDatabaseAsync#prepare(String, com.arangodb.model.AqlQueryOptions)}. Executing it only serializes the
+ * bind parameters and copies the already encoded attributes of the request.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ArangoPreparedQuery {
+
+	private static final String BIND_VARS = "bindVars";
+
+	private final ArangoDatabaseAsync db;
+	private final Request template;
+	private final String[] names;
+	private final VPackSlice[] values;
+
+	ArangoPreparedQuery(final ArangoDatabaseAsync db, final Request template) {
+		super();
+		this.db = db;
+		this.template = template;
+		final VPackSlice body = template.getBody();
+		final int size = body.size();
+		names = new String[size];
+		values = new VPackSlice[size];
+		for (int i = 0; i < size; i++) {
+			names[i] = body.keyAt(i).getAsString();
+			values[i] = body.valueAt(i);
+		}
+	}
+
+	/**
+	 * Create a cursor and return the first results
+	 *
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/AqlQueryCursor/AccessingCursors.html#create-cursor">API
+	 *      Documentation</a>
+	 * @param bindVars
+	 *            key/value pairs representing the bind parameters, can be null
+	 * @param type
+	 *            The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+	 * @return cursor of the results
+	 */
+	public <T> CompletableFuture<ArangoCursorAsync<T>> execute(
+		final Map<String, Object> bindVars,
+		final Class<T> type) throws ArangoDBException {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		for (int i = 0; i < names.length; i++) {
+			builder.add(names[i], values[i]);
+		}
+		if (bindVars != null) {
+			builder.add(BIND_VARS, db.executor().serialize(bindVars, true));
+		}
+		builder.close();
+		final Request request = new Request(template.getDatabase(), template.getRequestType(),
+				template.getRequest());
+		request.setBody(builder.slice());
+		return db.query(request, type);
+	}
+
+}
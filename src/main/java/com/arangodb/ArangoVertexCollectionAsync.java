@@ -20,18 +20,34 @@
 
 package com.arangodb;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.EdgeDefinition;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.entity.VertexUpdateEntity;
 import com.arangodb.internal.ArangoExecutorAsync;
+import com.arangodb.internal.BoundedForEach;
 import com.arangodb.internal.InternalArangoVertexCollection;
 import com.arangodb.internal.velocystream.ConnectionAsync;
+import com.arangodb.model.DocumentCreateOptions;
 import com.arangodb.model.DocumentReadOptions;
+import com.arangodb.model.DocumentReplaceOptions;
+import com.arangodb.model.DocumentUpdateOptions;
 import com.arangodb.model.VertexCreateOptions;
 import com.arangodb.model.VertexDeleteOptions;
 import com.arangodb.model.VertexReplaceOptions;
 import com.arangodb.model.VertexUpdateOptions;
+import com.arangodb.model.async.DocumentBatchOptions;
 import com.arangodb.velocystream.Response;
 
 /**
@@ -41,8 +57,19 @@ import com.arangodb.velocystream.Response;
 public class ArangoVertexCollectionAsync
 		extends InternalArangoVertexCollection<ArangoExecutorAsync, CompletableFuture<Response>, ConnectionAsync> {
 
+	private static final int DEFAULT_DELETE_BATCH_SIZE = 1000;
+	private static final int DEFAULT_DELETE_PARALLELISM = 4;
+	private static final String DELETE_EDGES_QUERY = "FOR e IN @@edges "
+			+ "FILTER e._from IN @vertices || e._to IN @vertices "
+			+ "REMOVE e IN @@edges OPTIONS { waitForSync: @waitForSync }";
+	private static final String DELETE_VERTICES_QUERY = "FOR key IN @keys "
+			+ "REMOVE key IN @@collection OPTIONS { ignoreErrors: true, waitForSync: @waitForSync }";
+
+	private final ArangoGraphAsync graph;
+
 	protected ArangoVertexCollectionAsync(final ArangoGraphAsync graph, final String name) {
 		super(graph.executor(), graph.db(), graph.name(), name);
+		this.graph = graph;
 	}
 
 	/**
@@ -67,7 +94,7 @@ public class ArangoVertexCollectionAsync
 	 */
 	public <T> CompletableFuture<VertexEntity> insertVertex(final T value) {
 		return executor.execute(insertVertexRequest(value, new VertexCreateOptions()),
-			insertVertexResponseDeserializer(value));
+			graph.database().collection(name()).addingToKeyFilter(insertVertexResponseDeserializer(value)));
 	}
 
 	/**
@@ -81,7 +108,8 @@ public class ArangoVertexCollectionAsync
 	 * @return information about the vertex
 	 */
 	public <T> CompletableFuture<VertexEntity> insertVertex(final T value, final VertexCreateOptions options) {
-		return executor.execute(insertVertexRequest(value, options), insertVertexResponseDeserializer(value));
+		return executor.execute(insertVertexRequest(value, options),
+			graph.database().collection(name()).addingToKeyFilter(insertVertexResponseDeserializer(value)));
 	}
 
 	/**
@@ -220,4 +248,165 @@ public class ArangoVertexCollectionAsync
 		return executor.execute(deleteVertexRequest(key, options), Void.class);
 	}
 
+	/**
+	 * Creates new vertices in the collection. The vertices are sent in batches with the multi-document API.
+	 * 
+	 * @see <a href="https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#create-document">API
+	 *      Documentation</a>
+	 * @param values
+	 *            A List of vertices (POJO, VPackSlice or String for Json)
+	 * @param options
+	 *            Additional options, can be null
+	 * @param batchOptions
+	 *            The number of vertices sent in one request (default 1000) and the maximum number of requests in
+	 *            flight (default 4), can be null
+	 * @return information about the vertices
+	 */
+	public <T> CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<T>>> insertVertices(
+		final Collection<T> values,
+		final VertexCreateOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentCreateOptions params = new DocumentCreateOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return collection.executeBatches(values, batchOptions, batch -> collection.insertDocuments(batch, params));
+	}
+
+	/**
+	 * Fetches existing vertices. The vertices are looked up in batches with AQL queries.
+	 * 
+	 * @param keys
+	 *            The keys of the vertices
+	 * @param type
+	 *            The type of the vertex-document (POJO class, VPackSlice or String for Json)
+	 * @param batchOptions
+	 *            The number of keys looked up by one query (default 1000) and the maximum number of queries running
+	 *            at the same time (default 4), can be null
+	 * @return the vertices in the order of the keys, null for vertices which do not exist
+	 */
+	public <T> CompletableFuture<List<T>> getVertices(
+		final Collection<String> keys,
+		final Class<T> type,
+		final DocumentBatchOptions batchOptions) {
+		return graph.database().collection(name()).lookupDocuments(keys, type, batchOptions);
+	}
+
+	/**
+	 * Replaces the vertices identified by the _key attributes of the given vertices. The vertices are sent in batches
+	 * with the multi-document API.
+	 * 
+	 * @see <a href=
+	 *      "https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#replace-documents">API
+	 *      Documentation</a>
+	 * @param values
+	 *            A List of vertices (POJO, VPackSlice or String for Json)
+	 * @param options
+	 *            Additional options, can be null. ifMatch is not supported, use the _rev attribute of the vertices
+	 *            instead.
+	 * @param batchOptions
+	 *            The number of vertices sent in one request (default 1000) and the maximum number of requests in
+	 *            flight (default 4), can be null
+	 * @return information about the vertices
+	 */
+	public <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> replaceVertices(
+		final Collection<T> values,
+		final VertexReplaceOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentReplaceOptions params = new DocumentReplaceOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return collection.executeBatches(values, batchOptions, batch -> collection.replaceDocuments(batch, params));
+	}
+
+	/**
+	 * Partially updates the vertices identified by the _key attributes of the given vertices. The vertices are sent
+	 * in batches with the multi-document API.
+	 * 
+	 * @see <a href=
+	 *      "https://docs.arangodb.com/current/HTTP/Document/WorkingWithDocuments.html#update-documents">API
+	 *      Documentation</a>
+	 * @param values
+	 *            A List of vertices with the attributes to patch (POJO, VPackSlice or String for Json)
+	 * @param options
+	 *            Additional options, can be null. ifMatch is not supported, use the _rev attribute of the vertices
+	 *            instead.
+	 * @param batchOptions
+	 *            The number of vertices sent in one request (default 1000) and the maximum number of requests in
+	 *            flight (default 4), can be null
+	 * @return information about the vertices
+	 */
+	public <T> CompletableFuture<MultiDocumentEntity<DocumentUpdateEntity<T>>> updateVertices(
+		final Collection<T> values,
+		final VertexUpdateOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final DocumentUpdateOptions params = new DocumentUpdateOptions()
+				.waitForSync(options != null ? options.getWaitForSync() : null)
+				.keepNull(options != null ? options.getKeepNull() : null);
+		final ArangoCollectionAsync collection = graph.database().collection(name());
+		return collection.executeBatches(values, batchOptions, batch -> collection.updateDocuments(batch, params));
+	}
+
+	/**
+	 * Removes vertices and all edges connected to them in the edge collections of this graph. The vertices are removed
+	 * in batches of at most {@code batchOptions.maxBatchSize} keys (default 1000) with at most
+	 * {@code batchOptions.parallelism} batches in flight (default 4). Each batch removes the connected edges with one
+	 * AQL query per edge collection whose edge definition references this vertex collection, and then the vertices
+	 * with one AQL query. Keys of vertices which do not exist are ignored. Edges in edge collections of other graphs
+	 * are not removed. After the first failed batch no further vertices are removed.
+	 * 
+	 * @param keys
+	 *            The keys of the vertices
+	 * @param options
+	 *            Additional options, can be null. Only waitForSync is supported.
+	 * @param batchOptions
+	 *            The number of vertices removed by one batch and the maximum number of batches in flight, can be null
+	 * @return void
+	 */
+	public CompletableFuture<Void> deleteVertices(
+		final Collection<String> keys,
+		final VertexDeleteOptions options,
+		final DocumentBatchOptions batchOptions) {
+		final List<String> list = keys instanceof List ? (List<String>) keys : new ArrayList<>(keys);
+		final Integer maxBatchSize = batchOptions != null ? batchOptions.getMaxBatchSize() : null;
+		final Integer parallelism = batchOptions != null ? batchOptions.getParallelism() : null;
+		final int batchSize = Math.max(1, maxBatchSize != null ? maxBatchSize : DEFAULT_DELETE_BATCH_SIZE);
+		final boolean waitForSync = options != null && Boolean.TRUE.equals(options.getWaitForSync());
+		final ArangoDatabaseAsync database = graph.database();
+		return graph.getInfo().thenCompose(info -> {
+			final Set<String> edgeCollections = new LinkedHashSet<>();
+			for (final EdgeDefinition definition : info.getEdgeDefinitions()) {
+				if (definition.getFrom().contains(name()) || definition.getTo().contains(name())) {
+					edgeCollections.add(definition.getCollection());
+				}
+			}
+			final List<List<String>> batches = new ArrayList<>();
+			for (int offset = 0; offset < list.size(); offset += batchSize) {
+				batches.add(list.subList(offset, Math.min(list.size(), offset + batchSize)));
+			}
+			return BoundedForEach.run(batches.iterator(),
+				parallelism != null ? parallelism : DEFAULT_DELETE_PARALLELISM, batch -> {
+					final List<String> ids = new ArrayList<>(batch.size());
+					for (final String key : batch) {
+						ids.add(name() + "/" + key);
+					}
+					CompletableFuture<Void> removed = CompletableFuture.completedFuture(null);
+					for (final String edges : edgeCollections) {
+						final Map<String, Object> bindVars = new HashMap<>();
+						bindVars.put("@edges", edges);
+						bindVars.put("vertices", ids);
+						bindVars.put("waitForSync", waitForSync);
+						removed = removed.thenCompose(v -> database.collection(edges).invalidateCached(null,
+							database.query(DELETE_EDGES_QUERY, bindVars, null, Void.class)
+									.thenApply(cursor -> null)));
+					}
+					final Map<String, Object> bindVars = new HashMap<>();
+					bindVars.put("@collection", name());
+					bindVars.put("keys", batch);
+					bindVars.put("waitForSync", waitForSync);
+					return removed.thenCompose(v -> database.collection(name()).invalidateCached(null,
+						database.query(DELETE_VERTICES_QUERY, bindVars, null, Void.class)));
+				});
+		});
+	}
+
 }
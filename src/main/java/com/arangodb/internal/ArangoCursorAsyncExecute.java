@@ -0,0 +1,57 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+
+/**
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public interface ArangoCursorAsyncExecute extends ArangoCursorExecute {
+
+	CompletableFuture<CursorEntity> nextAsync(String id);
+
+	CompletableFuture<Void> closeAsync(String id);
+
+	@Override
+	default CursorEntity next(final String id) {
+		try {
+			return nextAsync(id).get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new ArangoDBException(e);
+		}
+	}
+
+	@Override
+	default void close(final String id) {
+		try {
+			closeAsync(id).get();
+		} catch (InterruptedException | ExecutionException e) {
+			throw new ArangoDBException(e);
+		}
+	}
+
+}
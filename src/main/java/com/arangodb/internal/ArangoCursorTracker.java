@@ -0,0 +1,125 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the cursors which still exist on the server. A cursor which becomes unreachable before it was
+ * exhausted or closed is deleted on the server by a shared daemon thread.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ArangoCursorTracker {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ArangoCursorTracker.class);
+
+	private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+	static {
+		final Thread cleaner = new Thread(ArangoCursorTracker::clean, "arangodb-cursor-cleaner");
+		cleaner.setDaemon(true);
+		cleaner.start();
+	}
+
+	public static class Registration extends PhantomReference<Object> {
+
+		private final ArangoCursorTracker tracker;
+		private final ArangoCursorAsyncExecute execute;
+		private final String id;
+
+		private Registration(final Object cursor, final ArangoCursorTracker tracker,
+			final ArangoCursorAsyncExecute execute, final String id) {
+			super(cursor, QUEUE);
+			this.tracker = tracker;
+			this.execute = execute;
+			this.id = id;
+		}
+
+		/**
+		 * Stops tracking the cursor, after it was exhausted or deleted on the server.
+		 */
+		public void unregister() {
+			if (tracker.open.remove(this)) {
+				clear();
+			}
+		}
+
+		private void close() {
+			if (tracker.open.remove(this)) {
+				LOGGER.debug(String.format("Deleting unreachable cursor %s", id));
+				execute.closeAsync(id);
+			}
+		}
+
+	}
+
+	private final Set<Registration> open;
+
+	public ArangoCursorTracker() {
+		super();
+		open = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * @param cursor
+	 *            the cursor object, the registration does not keep it reachable
+	 * @param execute
+	 *            used to delete the cursor on the server, must not reference the cursor object
+	 * @param id
+	 *            the id of the cursor on the server
+	 * @return the registration of the cursor
+	 */
+	public Registration register(final Object cursor, final ArangoCursorAsyncExecute execute, final String id) {
+		final Registration registration = new Registration(cursor, this, execute, id);
+		open.add(registration);
+		return registration;
+	}
+
+	/**
+	 * @return the number of tracked cursors which were neither exhausted nor closed yet
+	 */
+	public int size() {
+		return open.size();
+	}
+
+	private static void clean() {
+		while (true) {
+			try {
+				final Reference<?> reference = QUEUE.remove();
+				((Registration) reference).close();
+			} catch (final InterruptedException e) {
+				return;
+			} catch (final RuntimeException e) {
+				LOGGER.error("Failed to delete unreachable cursor", e);
+			}
+		}
+	}
+
+}
@@ -21,13 +21,20 @@
 package com.arangodb.internal;
 
 import java.lang.reflect.Type;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.internal.velocypack.VPackArrayCursor;
 import com.arangodb.internal.velocystream.Communication;
 import com.arangodb.internal.velocystream.ConnectionAsync;
 import com.arangodb.velocypack.VPack;
 import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
@@ -38,10 +45,75 @@ import com.arangodb.velocystream.Response;
  */
 public class ArangoExecutorAsync extends ArangoExecutor<CompletableFuture<Response>, ConnectionAsync> {
 
+	private final ArangoCursorTracker cursorTracker;
+	private final QueryResultCache queryResultCache;
+	private final DocumentReadCache documentReadCache;
+	private final ConcurrentMap<String, KeyBloomFilter> keyFilters;
+	private final MultiDocumentSplitter multiDocumentSplitter;
+	private final ParallelSerializer parallelSerializer;
+	private final MetadataCache metadataCache;
+
 	public ArangoExecutorAsync(final Communication<CompletableFuture<Response>, ConnectionAsync> communication,
 		final VPack vpacker, final VPack vpackerNull, final VPackParser vpackParser, final DocumentCache documentCache,
 		final CollectionCache collectionCache) {
 		super(communication, vpacker, vpackerNull, vpackParser, documentCache, collectionCache);
+		cursorTracker = new ArangoCursorTracker();
+		queryResultCache = new QueryResultCache();
+		documentReadCache = new DocumentReadCache();
+		keyFilters = new ConcurrentHashMap<>();
+		multiDocumentSplitter = new MultiDocumentSplitter();
+		parallelSerializer = new ParallelSerializer();
+		metadataCache = new MetadataCache();
+	}
+
+	public ArangoCursorTracker cursorTracker() {
+		return cursorTracker;
+	}
+
+	public QueryResultCache queryResultCache() {
+		return queryResultCache;
+	}
+
+	public DocumentReadCache documentReadCache() {
+		return documentReadCache;
+	}
+
+	/**
+	 * @return the key filters of the collections, by database and collection name separated by a slash
+	 */
+	public ConcurrentMap<String, KeyBloomFilter> keyFilters() {
+		return keyFilters;
+	}
+
+	public MultiDocumentSplitter multiDocumentSplitter() {
+		return multiDocumentSplitter;
+	}
+
+	public ParallelSerializer parallelSerializer() {
+		return parallelSerializer;
+	}
+
+	public MetadataCache metadataCache() {
+		return metadataCache;
+	}
+
+	/**
+	 * The (de)serializers of the sync driver are protected, the following overrides make them available to the async
+	 * API classes outside of this package.
+	 */
+	@Override
+	public <T> T deserialize(final VPackSlice vpack, final Type type) throws ArangoDBException {
+		return super.deserialize(vpack, type);
+	}
+
+	@Override
+	public VPackSlice serialize(final Object entity) throws ArangoDBException {
+		return super.serialize(entity);
+	}
+
+	@Override
+	public VPackSlice serialize(final Object entity, final boolean serializeNullValues) throws ArangoDBException {
+		return super.serialize(entity, serializeNullValues);
 	}
 
 	public <T> CompletableFuture<T> execute(final Request request, final Type type) {
@@ -50,7 +122,13 @@ public class ArangoExecutorAsync extends ArangoExecutor<CompletableFuture<Respon
 
 	public <T> CompletableFuture<T> execute(final Request request, final ResponseDeserializer<T> responseDeserializer) {
 		final CompletableFuture<T> result = new CompletableFuture<>();
-		communication().execute(request).whenComplete((response, ex) -> {
+		final CompletableFuture<Response> execution = communication().execute(request);
+		result.whenComplete((r, ex) -> {
+			if (result.isCancelled()) {
+				execution.cancel(true);
+			}
+		});
+		execution.whenComplete((response, ex) -> {
 			if (response != null) {
 				try {
 					result.complete(responseDeserializer.deserialize(response));
@@ -66,4 +144,37 @@ public class ArangoExecutorAsync extends ArangoExecutor<CompletableFuture<Respon
 		return result;
 	}
 
+	/**
+	 * Executes a multi-document request and completes the future of every document with the corresponding element of
+	 * the response array. A document the server reports an error for only fails its own future.
+	 */
+	public <T> CompletableFuture<Void> executeEach(
+		final Request request,
+		final List<CompletableFuture<T>> results,
+		final IntFunction<ResponseDeserializer<T>> responseDeserializers) {
+		return execute(request, response -> {
+			final VPackArrayCursor elements = new VPackArrayCursor().reset(response.getBody());
+			for (int i = 0; i < results.size() && elements.next(); i++) {
+				final VPackSlice element = elements.current();
+				final CompletableFuture<T> result = results.get(i);
+				try {
+					final VPackSlice error = element.get("error");
+					if (error.isBoolean() && error.getAsBoolean()) {
+						final ErrorEntity errorEntity = deserialize(element, ErrorEntity.class);
+						result.completeExceptionally(new ArangoDBException(String.format("Error: %s - %s",
+							errorEntity.getErrorNum(), errorEntity.getErrorMessage())));
+					} else {
+						final Response single = new Response();
+						single.setResponseCode(response.getResponseCode());
+						single.setBody(element);
+						result.complete(responseDeserializers.apply(i).deserialize(single));
+					}
+				} catch (final VPackException | ArangoDBException e) {
+					result.completeExceptionally(e);
+				}
+			}
+			return null;
+		});
+	}
+
 }
@@ -0,0 +1,124 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Performs an asynchronous action for each element of an iterator, with at most a given number of actions in flight.
+ * The iterator is only advanced when an action completed, and never by the thread completing the action, which is
+ * usually the thread reading responses from the connection. After the first failed action no further elements are
+ * pulled and the returned future fails once the running actions completed.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class BoundedForEach<T> {
+
+	private final Iterator<? extends T> source;
+	private final int parallelism;
+	private final Function<? super T, ? extends CompletableFuture<?>> action;
+	private final CompletableFuture<Void> done;
+	private int running;
+	private boolean exhausted;
+	private Throwable failure;
+
+	private BoundedForEach(final Iterator<? extends T> source, final int parallelism,
+		final Function<? super T, ? extends CompletableFuture<?>> action) {
+		super();
+		this.source = source;
+		this.parallelism = Math.max(1, parallelism);
+		this.action = action;
+		done = new CompletableFuture<>();
+		running = 0;
+		exhausted = false;
+		failure = null;
+	}
+
+	public static <T> CompletableFuture<Void> run(
+		final Iterator<? extends T> source,
+		final int parallelism,
+		final Function<? super T, ? extends CompletableFuture<?>> action) {
+		final BoundedForEach<T> forEach = new BoundedForEach<>(source, parallelism, action);
+		CompletableFuture.runAsync(forEach::fill);
+		return forEach.done;
+	}
+
+	private void fill() {
+		final List<T> started = new ArrayList<>();
+		synchronized (this) {
+			while (running < parallelism && !exhausted && failure == null) {
+				try {
+					if (!source.hasNext()) {
+						exhausted = true;
+						break;
+					}
+					started.add(source.next());
+				} catch (final RuntimeException e) {
+					failure = e;
+					break;
+				}
+				running++;
+			}
+			if (checkDone()) {
+				return;
+			}
+		}
+		for (final T element : started) {
+			CompletableFuture<?> execution;
+			try {
+				execution = action.apply(element);
+			} catch (final RuntimeException e) {
+				execution = new CompletableFuture<>();
+				execution.completeExceptionally(e);
+			}
+			execution.whenComplete((r, ex) -> {
+				synchronized (this) {
+					running--;
+					if (ex != null && failure == null) {
+						failure = ex;
+					}
+					if (checkDone()) {
+						return;
+					}
+				}
+				CompletableFuture.runAsync(this::fill);
+			});
+		}
+	}
+
+	private boolean checkDone() {
+		if (running > 0 || !exhausted && failure == null) {
+			return false;
+		}
+		if (failure != null) {
+			done.completeExceptionally(failure);
+		} else {
+			done.complete(null);
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+/**
+ * Serializes the documents of an iterator into VelocyPack arrays, each holding at most a given number of documents
+ * and, unless a single document is larger, at most a given number of bytes.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class DocumentBatchIterator<T> implements Iterator<VPackSlice> {
+
+	private final Iterator<? extends T> documents;
+	private final int maxCount;
+	private final long maxBytes;
+	private final Function<Object, VPackSlice> serializer;
+	private VPackSlice pending;
+
+	public DocumentBatchIterator(final Iterator<? extends T> documents, final int maxCount, final long maxBytes,
+		final Function<Object, VPackSlice> serializer) {
+		super();
+		this.documents = documents;
+		this.maxCount = maxCount;
+		this.maxBytes = maxBytes;
+		this.serializer = serializer;
+		pending = null;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return pending != null || documents.hasNext();
+	}
+
+	@Override
+	public VPackSlice next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.ARRAY);
+		int count = 0;
+		long bytes = 0;
+		while (count < maxCount && (pending != null || documents.hasNext())) {
+			final VPackSlice document = pending != null ? pending : serializer.apply(documents.next());
+			pending = null;
+			if (count > 0 && bytes + document.getByteSize() > maxBytes) {
+				pending = document;
+				break;
+			}
+			builder.add(document);
+			bytes += document.getByteSize();
+			count++;
+		}
+		builder.close();
+		return builder.slice();
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Client-side cache of single documents, keyed by database, collection and document key. An entry holds a copy of
+ * the VelocyPack of the document together with its revision. Entries older than the TTL have to be revalidated with
+ * the server before they are returned again. The least recently used entries are evicted once the cached documents
+ * exceed the configured number of bytes.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class DocumentReadCache {
+
+	private static final int MAX_INVALIDATIONS = 4096;
+
+	public static class Entry {
+
+		private final byte[] document;
+		private final String revision;
+		private long validated;
+
+		private Entry(final byte[] document, final String revision, final long validated) {
+			super();
+			this.document = document;
+			this.revision = revision;
+			this.validated = validated;
+		}
+
+		public VPackSlice getDocument() {
+			return new VPackSlice(document);
+		}
+
+		public String getRevision() {
+			return revision;
+		}
+
+	}
+
+	private long maxBytes;
+	private long ttl;
+	private long bytes;
+	private long stamp;
+	private long invalidatedBefore;
+	private final LinkedHashMap<String, Entry> data;
+	private final LinkedHashMap<String, Long> invalidations;
+
+	public DocumentReadCache() {
+		super();
+		maxBytes = 0;
+		ttl = 0;
+		bytes = 0;
+		stamp = 0;
+		invalidatedBefore = 0;
+		data = new LinkedHashMap<>(16, 0.75f, true);
+		invalidations = new LinkedHashMap<String, Long>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Long> eldest) {
+				if (size() > MAX_INVALIDATIONS) {
+					invalidatedBefore = Math.max(invalidatedBefore, eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @param maxBytes
+	 *            maximum number of bytes of all cached documents, 0 disables the cache
+	 * @param ttl
+	 *            time in milliseconds a document is served without revalidation, 0 to revalidate on every read
+	 */
+	public synchronized void configure(final long maxBytes, final long ttl) {
+		this.maxBytes = maxBytes;
+		this.ttl = ttl;
+		clear();
+	}
+
+	public synchronized boolean isEnabled() {
+		return maxBytes > 0;
+	}
+
+	public synchronized Entry get(final String database, final String collection, final String key) {
+		return data.get(key(database, collection, key));
+	}
+
+	/**
+	 * @return whether the entry was validated with the server within the TTL
+	 */
+	public synchronized boolean isFresh(final Entry entry) {
+		return ttl > 0 && System.currentTimeMillis() - entry.validated <= ttl;
+	}
+
+	/**
+	 * Marks an entry as validated after the server confirmed its revision.
+	 */
+	public synchronized void validated(final Entry entry) {
+		entry.validated = System.currentTimeMillis();
+	}
+
+	/**
+	 * @return a stamp to be passed to {@link #put(long, String, String, String, VPackSlice)} for a document read
+	 *         after this call
+	 */
+	public synchronized long stamp() {
+		return stamp;
+	}
+
+	/**
+	 * Caches a document read from the server. The document is not cached if it or its collection was invalidated
+	 * since the given stamp was taken, because the read may have been overtaken by a write. Invalidations of other
+	 * documents do not prevent caching, unless so many documents were invalidated meanwhile that they are no longer
+	 * tracked one by one.
+	 */
+	public synchronized void put(
+		final long readStamp,
+		final String database,
+		final String collection,
+		final String key,
+		final VPackSlice document) {
+		if (maxBytes <= 0 || invalidatedSince(readStamp, key(database, collection, key))
+				|| invalidatedSince(readStamp, key(database, collection, ""))) {
+			return;
+		}
+		final VPackSlice revision = document.get("_rev");
+		final int size = document.getByteSize();
+		if (!revision.isString() || size > maxBytes) {
+			return;
+		}
+		final int start = document.getStart();
+		final Entry entry = new Entry(Arrays.copyOfRange(document.getBuffer(), start, start + size),
+				revision.getAsString(), System.currentTimeMillis());
+		final Entry previous = data.put(key(database, collection, key), entry);
+		if (previous != null) {
+			bytes -= previous.document.length;
+		}
+		bytes += size;
+		for (final Iterator<Entry> iterator = data.values().iterator(); bytes > maxBytes && iterator.hasNext();) {
+			bytes -= iterator.next().document.length;
+			iterator.remove();
+		}
+	}
+
+	public synchronized void remove(final String database, final String collection, final String key) {
+		invalidate(key(database, collection, key));
+		final Entry previous = data.remove(key(database, collection, key));
+		if (previous != null) {
+			bytes -= previous.document.length;
+		}
+	}
+
+	/**
+	 * Removes all documents of a collection, used after writes whose affected keys are not known in advance.
+	 */
+	public synchronized void removeCollection(final String database, final String collection) {
+		final String prefix = key(database, collection, "");
+		invalidate(prefix);
+		for (final Iterator<Map.Entry<String, Entry>> iterator = data.entrySet().iterator(); iterator.hasNext();) {
+			final Map.Entry<String, Entry> entry = iterator.next();
+			if (entry.getKey().startsWith(prefix)) {
+				bytes -= entry.getValue().document.length;
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		invalidatedBefore = ++stamp;
+		invalidations.clear();
+		data.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Records the invalidation of a document, or of all documents of a collection for a key without document key.
+	 */
+	private void invalidate(final String key) {
+		invalidations.remove(key);
+		invalidations.put(key, ++stamp);
+	}
+
+	private boolean invalidatedSince(final long readStamp, final String key) {
+		final Long invalidated = invalidations.get(key);
+		return readStamp < invalidatedBefore || invalidated != null && readStamp < invalidated;
+	}
+
+	private static String key(final String database, final String collection, final String key) {
+		return database + "/" + collection + "/" + key;
+	}
+
+}
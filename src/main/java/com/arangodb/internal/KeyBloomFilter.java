@@ -0,0 +1,123 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over the document keys of a collection. A key which was never added is reported as absent with the
+ * configured false positive probability, a key which was added is never reported as absent. Keys can be added
+ * concurrently. Until the filter is marked as loaded every key is reported as possibly present.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class KeyBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long size;
+	private final int hashes;
+	private volatile boolean loaded;
+
+	/**
+	 * @param expectedKeys
+	 *            the number of keys the filter is dimensioned for
+	 * @param falsePositiveProbability
+	 *            the probability of a key which was never added being reported as present, once the expected number
+	 *            of keys was added
+	 */
+	public KeyBloomFilter(final long expectedKeys, final double falsePositiveProbability) {
+		super();
+		final long n = Math.max(1, expectedKeys);
+		final double p = Math.min(0.5, Math.max(Double.MIN_VALUE, falsePositiveProbability));
+		final long words = Math.max(1, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)) / 64));
+		if (words > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Bloom filter too large");
+		}
+		bits = new AtomicLongArray((int) words);
+		size = words * 64;
+		hashes = Math.max(1, (int) Math.round((double) size / n * Math.log(2)));
+		loaded = false;
+	}
+
+	public void add(final String key) {
+		final long hash = hash(key);
+		final int h1 = (int) hash;
+		final int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashes; i++) {
+			final long index = Math.floorMod(h1 + (long) i * h2, size);
+			final int word = (int) (index >>> 6);
+			final long mask = 1L << index;
+			long current = bits.get(word);
+			while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+				current = bits.get(word);
+			}
+		}
+	}
+
+	/**
+	 * @return false if the key was definitely never added and the filter is loaded, otherwise true
+	 */
+	public boolean mightContain(final String key) {
+		if (!loaded) {
+			return true;
+		}
+		final long hash = hash(key);
+		final int h1 = (int) hash;
+		final int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashes; i++) {
+			final long index = Math.floorMod(h1 + (long) i * h2, size);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Marks the filter as containing all keys of the collection, after which it answers negative lookups.
+	 */
+	public void loaded() {
+		loaded = true;
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * 64 bit FNV-1a hash of the characters of the key, finished with the MurmurHash3 mix function.
+	 */
+	private static long hash(final String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Client-side cache of database and collection metadata, like collection properties, counts and indexes. A request
+ * for an entry which is being loaded waits for the running request instead of sending another one. Entries are
+ * loaded again once they are older than the TTL or were invalidated by a local change.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class MetadataCache {
+
+	private static class Entry {
+
+		private final CompletableFuture<?> value;
+		private final long created;
+
+		private Entry(final CompletableFuture<?> value, final long created) {
+			super();
+			this.value = value;
+			this.created = created;
+		}
+
+	}
+
+	private volatile long ttl;
+	private final ConcurrentMap<String, Entry> data;
+
+	public MetadataCache() {
+		super();
+		ttl = 0;
+		data = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * @param ttl
+	 *            time in milliseconds an entry is served from the cache, 0 disables the cache
+	 */
+	public void configure(final long ttl) {
+		this.ttl = ttl;
+		data.clear();
+	}
+
+	/**
+	 * @return the key of an entry, the keys of all entries of a collection start with the key for an empty type
+	 */
+	public static String key(final String database, final String collection, final String type) {
+		return database + "/" + collection + "/" + type;
+	}
+
+	/**
+	 * Returns the cached entry, or loads and caches it if it is missing, expired or failed. Looking up and replacing
+	 * an entry is one atomic operation, so concurrent callers share a single request. A failed request is removed
+	 * once it completes. Every caller gets its own future, so cancelling it does not affect other callers.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> get(final String key, final Supplier<CompletableFuture<T>> loader) {
+		final long currentTtl = ttl;
+		if (currentTtl <= 0) {
+			return loader.get();
+		}
+		final long now = System.currentTimeMillis();
+		final Entry[] loading = { null };
+		final Entry entry = data.compute(key, (k, current) -> {
+			if (current != null && now - current.created <= currentTtl && !current.value.isCompletedExceptionally()) {
+				return current;
+			}
+			loading[0] = new Entry(loader.get(), now);
+			return loading[0];
+		});
+		if (entry == loading[0]) {
+			// registered outside of compute, a future failing immediately must not modify the map from within
+			entry.value.whenComplete((r, ex) -> {
+				if (ex != null) {
+					data.remove(key, entry);
+				}
+			});
+		}
+		return ((CompletableFuture<T>) entry.value).thenApply(r -> r);
+	}
+
+	public void remove(final String key) {
+		data.remove(key);
+	}
+
+	/**
+	 * Removes all entries with keys starting with the given prefix.
+	 */
+	public void removePrefix(final String prefix) {
+		data.keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+}
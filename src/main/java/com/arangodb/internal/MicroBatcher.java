@@ -0,0 +1,191 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.model.async.DocumentBatchOptions;
+
+/**
+ * Coalesces elements added concurrently into batches. A batch is executed as soon as it reaches the maximum batch size
+ * or byte size, or the maximum delay after its first element was added has passed. Batches exceeding the maximum
+ * number of batches in flight are queued and executed in the order they were closed.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class MicroBatcher<E, R> {
+
+	private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+	private static final long DEFAULT_MAX_DELAY = 5;
+
+	private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+		final Thread thread = new Thread(r, "arangodb-batcher");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public interface BatchExecutor<E, R> {
+
+		/**
+		 * Executes a batch and completes the future of each element. Futures left incomplete when the returned future
+		 * completes are completed exceptionally.
+		 */
+		CompletableFuture<?> execute(List<E> elements, List<CompletableFuture<R>> results);
+
+	}
+
+	private static class Batch<E, R> {
+		private final List<E> elements;
+		private final List<CompletableFuture<R>> results;
+
+		private Batch(final List<E> elements, final List<CompletableFuture<R>> results) {
+			super();
+			this.elements = elements;
+			this.results = results;
+		}
+	}
+
+	private final int maxBatchSize;
+	private final long maxBatchBytes;
+	private final long maxDelay;
+	private final int parallelism;
+	private final ToLongFunction<? super E> weigher;
+	private final BatchExecutor<E, R> executor;
+	private List<E> elements;
+	private List<CompletableFuture<R>> results;
+	private long bytes;
+	private ScheduledFuture<?> scheduled;
+	private int running;
+	private final Deque<Batch<E, R>> queued;
+
+	public MicroBatcher(final DocumentBatchOptions options, final BatchExecutor<E, R> executor) {
+		this(options, null, executor);
+	}
+
+	/**
+	 * @param weigher
+	 *            the size in bytes of an element, used for the maximum byte size of a batch, can be null
+	 */
+	public MicroBatcher(final DocumentBatchOptions options, final ToLongFunction<? super E> weigher,
+		final BatchExecutor<E, R> executor) {
+		super();
+		final DocumentBatchOptions opt = options != null ? options : new DocumentBatchOptions();
+		maxBatchSize = opt.getMaxBatchSize() != null ? opt.getMaxBatchSize() : DEFAULT_MAX_BATCH_SIZE;
+		maxBatchBytes = opt.getMaxBatchBytes() != null ? opt.getMaxBatchBytes() : Long.MAX_VALUE;
+		maxDelay = opt.getMaxDelay() != null ? opt.getMaxDelay() : DEFAULT_MAX_DELAY;
+		parallelism = opt.getParallelism() != null ? Math.max(1, opt.getParallelism()) : Integer.MAX_VALUE;
+		this.weigher = weigher;
+		this.executor = executor;
+		elements = new ArrayList<>();
+		results = new ArrayList<>();
+		bytes = 0;
+		scheduled = null;
+		running = 0;
+		queued = new ArrayDeque<>();
+	}
+
+	public CompletableFuture<R> add(final E element) {
+		final CompletableFuture<R> result = new CompletableFuture<>();
+		boolean full = false;
+		synchronized (this) {
+			elements.add(element);
+			results.add(result);
+			if (weigher != null) {
+				bytes += weigher.applyAsLong(element);
+			}
+			if (elements.size() >= maxBatchSize || bytes >= maxBatchBytes) {
+				full = true;
+			} else if (elements.size() == 1) {
+				scheduled = SCHEDULER.schedule(this::flush, maxDelay, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (full) {
+			flush();
+		}
+		return result;
+	}
+
+	/**
+	 * Executes the pending elements immediately.
+	 */
+	public void flush() {
+		final Batch<E, R> batch;
+		synchronized (this) {
+			if (elements.isEmpty()) {
+				return;
+			}
+			if (scheduled != null) {
+				scheduled.cancel(false);
+				scheduled = null;
+			}
+			final Batch<E, R> closed = new Batch<>(elements, results);
+			elements = new ArrayList<>();
+			results = new ArrayList<>();
+			bytes = 0;
+			if (running >= parallelism) {
+				queued.add(closed);
+				return;
+			}
+			running++;
+			batch = closed;
+		}
+		execute(batch);
+	}
+
+	private void execute(final Batch<E, R> batch) {
+		CompletableFuture<?> execution;
+		try {
+			execution = executor.execute(batch.elements, batch.results);
+		} catch (final RuntimeException e) {
+			execution = new CompletableFuture<>();
+			execution.completeExceptionally(e);
+		}
+		execution.whenComplete((r, ex) -> {
+			for (final CompletableFuture<R> result : batch.results) {
+				if (!result.isDone()) {
+					result.completeExceptionally(ex != null ? ex : new ArangoDBException("Missing result in batch"));
+				}
+			}
+			final Batch<E, R> next;
+			synchronized (this) {
+				next = queued.poll();
+				if (next == null) {
+					running--;
+				}
+			}
+			if (next != null) {
+				execute(next);
+			}
+		});
+	}
+
+}
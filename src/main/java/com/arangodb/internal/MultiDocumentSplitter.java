@@ -0,0 +1,141 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Splits the documents of a multi-document operation into chunks, each holding at most a given number of documents
+ * and, unless a single document is larger, at most a given number of serialized bytes.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class MultiDocumentSplitter {
+
+	public static class Chunk<T> {
+
+		private final List<T> values;
+		private final List<Object> documents;
+
+		private Chunk() {
+			super();
+			values = new ArrayList<>();
+			documents = new ArrayList<>();
+		}
+
+		/**
+		 * @return the documents as passed by the caller
+		 */
+		public List<T> getValues() {
+			return values;
+		}
+
+		/**
+		 * @return the documents to be sent, serialized if the byte size is limited
+		 */
+		public List<Object> getDocuments() {
+			return documents;
+		}
+
+	}
+
+	private int maxCount;
+	private long maxBytes;
+	private int parallelism;
+
+	public MultiDocumentSplitter() {
+		super();
+		maxCount = 0;
+		maxBytes = 0;
+		parallelism = 1;
+	}
+
+	/**
+	 * @param maxCount
+	 *            maximum number of documents per request, 0 for no limit
+	 * @param maxBytes
+	 *            maximum number of serialized bytes per request, 0 for no limit
+	 * @param parallelism
+	 *            maximum number of requests of one operation in flight at the same time
+	 */
+	public synchronized void configure(final int maxCount, final long maxBytes, final int parallelism) {
+		this.maxCount = maxCount;
+		this.maxBytes = maxBytes;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	public synchronized int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @param serialized
+	 *            the already serialized documents in the order of the values, can be null
+	 * @param serializer
+	 *            serializes a single document, null if the values are keys
+	 * @return the chunks, or null if the values fit into one request
+	 */
+	public <T> List<Chunk<T>> split(
+		final Collection<T> values,
+		final List<Object> serialized,
+		final Function<Object, VPackSlice> serializer) {
+		final int count;
+		final long bytes;
+		synchronized (this) {
+			count = maxCount > 0 ? maxCount : Integer.MAX_VALUE;
+			bytes = maxBytes > 0 ? maxBytes : Long.MAX_VALUE;
+		}
+		if (bytes == Long.MAX_VALUE && values.size() <= count) {
+			return null;
+		}
+		final boolean serialize = serializer != null && bytes != Long.MAX_VALUE;
+		final List<Chunk<T>> chunks = new ArrayList<>();
+		Chunk<T> chunk = new Chunk<>();
+		long size = 0;
+		int index = 0;
+		for (final T value : values) {
+			final Object document = serialized != null ? serialized.get(index++)
+					: serialize ? serializer.apply(value) : value;
+			final long documentSize = bytes == Long.MAX_VALUE ? 0
+					: document instanceof VPackSlice ? ((VPackSlice) document).getByteSize()
+							: String.valueOf(document).length();
+			if (!chunk.values.isEmpty() && (chunk.values.size() >= count || size + documentSize > bytes)) {
+				chunks.add(chunk);
+				chunk = new Chunk<>();
+				size = 0;
+			}
+			chunk.values.add(value);
+			chunk.documents.add(document);
+			size += documentSize;
+		}
+		if (!chunk.values.isEmpty()) {
+			chunks.add(chunk);
+		}
+		return chunks.size() > 1 ? chunks : null;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Serializes the documents of large multi-document operations in parallel on the common
+ * {@link java.util.concurrent.ForkJoinPool}. The serialized documents are copied into the request body by the calling
+ * thread.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class ParallelSerializer {
+
+	private volatile int threshold;
+
+	public ParallelSerializer() {
+		super();
+		threshold = 0;
+	}
+
+	/**
+	 * @param threshold
+	 *            minimum number of documents serialized in parallel, 0 disables parallel serialization
+	 */
+	public void configure(final int threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * @param serializer
+	 *            serializes a single document, null if the values are keys
+	 * @return the serialized documents in the order of the values, or null if the values are not serialized in
+	 *         parallel
+	 */
+	public List<Object> serialize(final Collection<?> values, final Function<Object, VPackSlice> serializer) {
+		final int min = threshold;
+		if (serializer == null || min <= 0 || values.size() < min) {
+			return null;
+		}
+		final Object[] elements = values.toArray();
+		final Object[] documents = new Object[elements.length];
+		IntStream.range(0, elements.length).parallel().forEach(i -> documents[i] = serializer.apply(elements[i]));
+		return Arrays.asList(documents);
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Client-side cache of complete AQL query results, keyed by database and the serialized query request (query string,
+ * bind parameters and options). The least recently used entry is evicted once the cache is full, entries older than
+ * the TTL are not returned. The cache is bounded by the number of results, not by their size, and admits every result
+ * which was transferred in a single batch, so the batch size of the cached queries limits its memory usage.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class QueryResultCache {
+
+	public static class Key {
+
+		private final String database;
+		private final byte[] request;
+		private final int hash;
+
+		private Key(final String database, final byte[] request) {
+			super();
+			this.database = database;
+			this.request = request;
+			hash = 31 * database.hashCode() + Arrays.hashCode(request);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) obj;
+			return hash == other.hash && database.equals(other.database) && Arrays.equals(request, other.request);
+		}
+
+	}
+
+	public static class Entry {
+
+		private final CursorEntity result;
+		private final Map<String, String> revisions;
+		private final long created;
+
+		private Entry(final CursorEntity result, final Map<String, String> revisions, final long created) {
+			super();
+			this.result = result;
+			this.revisions = revisions;
+			this.created = created;
+		}
+
+		public CursorEntity getResult() {
+			return result;
+		}
+
+		/**
+		 * @return the revisions of the collections involved in the query, taken before the query was executed, or
+		 *         null if revisions are not checked
+		 */
+		public Map<String, String> getRevisions() {
+			return revisions;
+		}
+
+	}
+
+	private int maxSize;
+	private long ttl;
+	private boolean revisionCheck;
+	private final LinkedHashMap<Key, Entry> data;
+
+	public QueryResultCache() {
+		super();
+		maxSize = 0;
+		ttl = 0;
+		revisionCheck = false;
+		data = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param maxSize
+	 *            maximum number of cached query results, 0 disables the cache
+	 * @param ttl
+	 *            time in milliseconds a result is served from the cache, 0 for no limit
+	 * @param revisionCheck
+	 *            whether the revisions of the involved collections are compared before a cached result is returned
+	 */
+	public synchronized void configure(final int maxSize, final long ttl, final boolean revisionCheck) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+		this.revisionCheck = revisionCheck;
+		data.clear();
+	}
+
+	public synchronized boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	public synchronized boolean isRevisionCheck() {
+		return revisionCheck;
+	}
+
+	public Key key(final String database, final VPackSlice request) {
+		final int start = request.getStart();
+		return new Key(database, Arrays.copyOfRange(request.getBuffer(), start, start + request.getByteSize()));
+	}
+
+	public synchronized Entry get(final Key key) {
+		final Entry entry = data.get(key);
+		if (entry != null && ttl > 0 && System.currentTimeMillis() - entry.created > ttl) {
+			data.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	/**
+	 * Caches a query result. Only results which were transferred completely in the first batch are cached.
+	 */
+	public synchronized void put(final Key key, final CursorEntity result, final Map<String, String> revisions) {
+		if (maxSize > 0 && !Boolean.TRUE.equals(result.getHasMore())) {
+			data.put(key, new Entry(result, revisions, System.currentTimeMillis()));
+		}
+	}
+
+	public synchronized void remove(final Key key) {
+		data.remove(key);
+	}
+
+	public synchronized void clear() {
+		data.clear();
+	}
+
+}
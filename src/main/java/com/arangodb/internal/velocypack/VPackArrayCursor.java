@@ -0,0 +1,146 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Reusable sequential cursor over the elements of a VelocyPack array. Every step advances by the byte size of the
+ * current element, so that traversing an array without index table does not cost a linear search per element like
+ * {@link VPackSlice#get(int)} does. {@link VPackSlice} is immutable, so every step creates one slice object pointing
+ * into the array's buffer. The bytes of the element are not copied.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class VPackArrayCursor {
+
+	private byte[] buffer;
+	private int offset;
+	private int index;
+	private int size;
+	private VPackSlice current;
+
+	public VPackArrayCursor() {
+		super();
+		buffer = null;
+		offset = 0;
+		index = 0;
+		size = 0;
+		current = null;
+	}
+
+	/**
+	 * Positions the cursor before the first element of the given array.
+	 *
+	 * @param array
+	 *            a VelocyPack array
+	 * @return this cursor
+	 */
+	public VPackArrayCursor reset(final VPackSlice array) {
+		return reset(array, 0);
+	}
+
+	/**
+	 * Positions the cursor before the element with the given index of the given array.
+	 *
+	 * @param array
+	 *            a VelocyPack array
+	 * @param from
+	 *            index of the element to be returned by the first call of {@link #next()}
+	 * @return this cursor
+	 */
+	public VPackArrayCursor reset(final VPackSlice array, final int from) {
+		buffer = array.getBuffer();
+		size = array.size();
+		index = 0;
+		current = null;
+		offset = size > 0 ? firstElement(buffer, array.getStart()) : 0;
+		while (index < from && next()) {
+		}
+		current = null;
+		return this;
+	}
+
+	/**
+	 * Advances the cursor to the next element. The slice returned by {@link #current()} is a new view of the element.
+	 *
+	 * @return false if the array has no further element
+	 */
+	public boolean next() {
+		if (index >= size) {
+			current = null;
+			return false;
+		}
+		current = new VPackSlice(buffer, offset);
+		offset += current.getByteSize();
+		index++;
+		return true;
+	}
+
+	/**
+	 * @return the element the cursor is positioned at
+	 */
+	public VPackSlice current() {
+		return current;
+	}
+
+	/**
+	 * @return the index of the element the cursor is positioned at
+	 */
+	public int index() {
+		return index - 1;
+	}
+
+	/**
+	 * @return the number of elements after the current one
+	 */
+	public int remaining() {
+		return size - index;
+	}
+
+	private static int firstElement(final byte[] buffer, final int start) {
+		final int head = buffer[start] & 0xff;
+		int offset;
+		if (head == 0x13) {
+			// compact array: head, byte length as variable length integer
+			offset = start + 1;
+			while ((buffer[offset++] & 0x80) != 0) {
+			}
+			return offset;
+		} else if (head >= 0x02 && head <= 0x05) {
+			// array without index table: head, byte length
+			offset = start + 1 + (1 << (head - 0x02));
+		} else if (head >= 0x06 && head <= 0x09) {
+			// array with index table: head, byte length, number of items (at the end for 8 byte lengths)
+			final int width = 1 << (head - 0x06);
+			offset = start + 1 + (head == 0x09 ? width : 2 * width);
+		} else {
+			throw new IllegalArgumentException("Not a VelocyPack array: head 0x" + Integer.toHexString(head));
+		}
+		// the builder may leave zero bytes between header and first element
+		while (buffer[offset] == 0) {
+			offset++;
+		}
+		return offset;
+	}
+
+}
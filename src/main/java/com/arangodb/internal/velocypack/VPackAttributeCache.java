@@ -0,0 +1,191 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import java.util.function.Function;
+
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Maps the raw bytes of VelocyPack attribute names to a resolved binding. A hit compares bytes only and neither
+ * decodes the attribute name into a String nor looks it up in a field map again. Lookups are lock-free, new entries
+ * are published copy-on-write. Once the cache is full further attribute names are resolved without being cached.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class VPackAttributeCache<B> {
+
+	private static final int DEFAULT_MAX_SIZE = 512;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static class Entry<B> {
+		private final byte[] key;
+		private final int hash;
+		private final B binding;
+
+		private Entry(final byte[] key, final int hash, final B binding) {
+			super();
+			this.key = key;
+			this.hash = hash;
+			this.binding = binding;
+		}
+	}
+
+	private final Function<String, B> resolver;
+	private final int maxSize;
+	private volatile Entry<B>[] table;
+	private volatile int size;
+
+	public VPackAttributeCache(final Function<String, B> resolver) {
+		this(resolver, DEFAULT_MAX_SIZE);
+	}
+
+	@SuppressWarnings("unchecked")
+	public VPackAttributeCache(final Function<String, B> resolver, final int maxSize) {
+		super();
+		this.resolver = resolver;
+		this.maxSize = maxSize;
+		table = new Entry[INITIAL_CAPACITY];
+		size = 0;
+	}
+
+	/**
+	 * @param attribute
+	 *            the attribute name slice of an object, as returned by {@link VPackSlice#keyAt(int)}
+	 * @return the binding resolved for the attribute name
+	 */
+	public B get(final VPackSlice attribute) {
+		final byte[] buffer = attribute.getBuffer();
+		final int start = attribute.getStart();
+		final int length = attribute.getByteSize();
+		final int hash = hash(buffer, start, length);
+		final Entry<B> entry = find(table, buffer, start, length, hash);
+		if (entry != null) {
+			return entry.binding;
+		}
+		return put(attribute, buffer, start, length, hash);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private synchronized B put(
+		final VPackSlice attribute,
+		final byte[] buffer,
+		final int start,
+		final int length,
+		final int hash) {
+		final Entry<B> existing = find(table, buffer, start, length, hash);
+		if (existing != null) {
+			return existing.binding;
+		}
+		final B binding = resolver.apply(name(attribute));
+		if (size >= maxSize) {
+			return binding;
+		}
+		final Entry<B>[] current = table;
+		final int capacity = (size + 1) * 2 > current.length ? current.length * 2 : current.length;
+		@SuppressWarnings("unchecked")
+		final Entry<B>[] copy = new Entry[capacity];
+		for (final Entry<B> entry : current) {
+			if (entry != null) {
+				insert(copy, entry);
+			}
+		}
+		final byte[] key = new byte[length];
+		System.arraycopy(buffer, start, key, 0, length);
+		insert(copy, new Entry<>(key, hash, binding));
+		table = copy;
+		size++;
+		return binding;
+	}
+
+	private static <B> Entry<B> find(
+		final Entry<B>[] table,
+		final byte[] buffer,
+		final int start,
+		final int length,
+		final int hash) {
+		final int mask = table.length - 1;
+		for (int i = hash & mask;; i = (i + 1) & mask) {
+			final Entry<B> entry = table[i];
+			if (entry == null) {
+				return null;
+			}
+			if (entry.hash == hash && equals(entry.key, buffer, start, length)) {
+				return entry;
+			}
+		}
+	}
+
+	private static <B> void insert(final Entry<B>[] table, final Entry<B> entry) {
+		final int mask = table.length - 1;
+		int i = entry.hash & mask;
+		while (table[i] != null) {
+			i = (i + 1) & mask;
+		}
+		table[i] = entry;
+	}
+
+	private static int hash(final byte[] buffer, final int start, final int length) {
+		int hash = 1;
+		for (int i = start; i < start + length; i++) {
+			hash = 31 * hash + buffer[i];
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equals(final byte[] key, final byte[] buffer, final int start, final int length) {
+		if (key.length != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (key[i] != buffer[start + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String name(final VPackSlice attribute) {
+		if (attribute.isString()) {
+			return attribute.getAsString();
+		}
+		// attribute names translated by the server into small integers
+		switch (attribute.getAsInt()) {
+		case 1:
+			return "_key";
+		case 2:
+			return "_rev";
+		case 3:
+			return "_id";
+		case 4:
+			return "_from";
+		case 5:
+			return "_to";
+		default:
+			return String.valueOf(attribute.getAsInt());
+		}
+	}
+
+}
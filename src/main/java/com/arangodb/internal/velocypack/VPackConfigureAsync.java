@@ -24,6 +24,9 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.BaseEdgeDocument;
+import com.arangodb.internal.CollectionCache;
 import com.arangodb.velocypack.VPack;
 
 /**
@@ -33,10 +36,20 @@ import com.arangodb.velocypack.VPack;
 public class VPackConfigureAsync {
 
 	public static void configure(final VPack.Builder builder) {
+		configure(builder, null);
+	}
+
+	/**
+	 * @param collectionCache
+	 *            resolves the collection of document ids sent as custom type, can be null
+	 */
+	public static void configure(final VPack.Builder builder, final CollectionCache collectionCache) {
 
 		builder.registerDeserializer(Instant.class, VPackDeserializersAsync.INSTANT);
 		builder.registerDeserializer(LocalDate.class, VPackDeserializersAsync.LOCAL_DATE);
 		builder.registerDeserializer(LocalDateTime.class, VPackDeserializersAsync.LOCAL_DATE_TIME);
+		builder.registerDeserializer(BaseDocument.class, VPackDeserializersAsync.baseDocument(collectionCache));
+		builder.registerDeserializer(BaseEdgeDocument.class, VPackDeserializersAsync.baseEdgeDocument(collectionCache));
 
 		builder.registerSerializer(Instant.class, VPackSerializersAsync.INSTANT);
 		builder.registerSerializer(LocalDate.class, VPackSerializersAsync.LOCAL_DATE);
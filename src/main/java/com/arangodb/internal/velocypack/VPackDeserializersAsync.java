@@ -24,8 +24,17 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
 
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.BaseEdgeDocument;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.internal.CollectionCache;
+import com.arangodb.velocypack.VPackDeserializationContext;
 import com.arangodb.velocypack.VPackDeserializer;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.internal.util.NumberUtil;
 
 /**
  * @author Mark - mark at arangodb.com
@@ -43,4 +52,80 @@ public class VPackDeserializersAsync {
 		return vpack.getAsDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
 	};
 
+	/**
+	 * @param collectionCache
+	 *            resolves the collection of an _id sent as custom type, can be null
+	 */
+	public static VPackDeserializer<BaseDocument> baseDocument(final CollectionCache collectionCache) {
+		return (parent, vpack, context) -> new BaseDocument(documentProperties(vpack, context, collectionCache));
+	}
+
+	/**
+	 * @param collectionCache
+	 *            resolves the collection of an _id sent as custom type, can be null
+	 */
+	public static VPackDeserializer<BaseEdgeDocument> baseEdgeDocument(final CollectionCache collectionCache) {
+		return (parent, vpack, context) -> new BaseEdgeDocument(documentProperties(vpack, context, collectionCache));
+	}
+
+	private static class DocumentAttribute {
+		private final String name;
+		private final DocumentField.Type field;
+
+		private DocumentAttribute(final String name) {
+			super();
+			this.name = name;
+			DocumentField.Type field = null;
+			for (final DocumentField.Type type : DocumentField.Type.values()) {
+				if (type.getSerializeName().equals(name)) {
+					field = type;
+				}
+			}
+			this.field = field;
+		}
+	}
+
+	private static final VPackAttributeCache<DocumentAttribute> DOCUMENT_ATTRIBUTES = new VPackAttributeCache<>(
+			DocumentAttribute::new);
+
+	/**
+	 * Returns the attributes of a document. The system attributes are taken out of the map by the constructors of
+	 * {@link BaseDocument} and {@link BaseEdgeDocument}.
+	 */
+	private static Map<String, Object> documentProperties(
+		final VPackSlice vpack,
+		final VPackDeserializationContext context,
+		final CollectionCache collectionCache) {
+		final Map<String, Object> properties = new HashMap<>();
+		for (int i = 0; i < vpack.size(); i++) {
+			final DocumentAttribute attribute = DOCUMENT_ATTRIBUTES.get(vpack.keyAt(i));
+			final VPackSlice value = vpack.valueAt(i);
+			if (attribute.field == DocumentField.Type.ID) {
+				properties.put(attribute.name, documentId(vpack, value, collectionCache));
+			} else if (attribute.field != null && value.isString()) {
+				properties.put(attribute.name, value.getAsString());
+			} else {
+				properties.put(attribute.name, context.deserialize(value, Object.class));
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Returns the _id of a document. Over VelocyStream the server sends the _id as custom type holding the id of the
+	 * collection, which is resolved to "collection/key" like the _id field deserializer of the sync driver does.
+	 */
+	private static String documentId(
+		final VPackSlice document,
+		final VPackSlice id,
+		final CollectionCache collectionCache) {
+		if (!id.isCustom()) {
+			return id.getAsString();
+		}
+		final long collectionId = NumberUtil.toLong(id.getBuffer(), id.getStart() + 1, id.getByteSize() - 1);
+		final String collection = collectionCache != null ? collectionCache.getCollectionName(collectionId) : null;
+		final VPackSlice key = document.get(DocumentField.Type.KEY.getSerializeName());
+		return collection != null && key.isString() ? collection + "/" + key.getAsString() : null;
+	}
+
 }
@@ -0,0 +1,102 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+/**
+ * Computes the patch document which, applied as a partial update to a document equal to {@code before}, has the same
+ * effect as a partial update with {@code after}. Attributes with the same value in both documents are left out,
+ * attributes missing in {@code after} are left out as well, because a partial update does not remove them either.
+ * Values are compared by their encoding, so equal values with different encodings are sent again.
+ *
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class VPackDiff {
+
+	private VPackDiff() {
+		super();
+	}
+
+	/**
+	 * @param mergeObjects
+	 *            whether the update merges nested objects, in which case only the changed attributes of a nested
+	 *            object are part of the patch, otherwise a changed nested object is part of the patch completely
+	 * @return the patch document
+	 */
+	public static VPackSlice diff(final VPackSlice before, final VPackSlice after, final boolean mergeObjects) {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		addChanges(builder, before, after, mergeObjects);
+		builder.close();
+		return builder.slice();
+	}
+
+	private static void addChanges(
+		final VPackBuilder builder,
+		final VPackSlice before,
+		final VPackSlice after,
+		final boolean mergeObjects) {
+		for (final Iterator<Entry<String, VPackSlice>> iterator = after.objectIterator(); iterator.hasNext();) {
+			final Entry<String, VPackSlice> attribute = iterator.next();
+			final VPackSlice value = attribute.getValue();
+			final VPackSlice previous = before.isObject() ? before.get(attribute.getKey()) : null;
+			if (previous == null || previous.isNone()) {
+				builder.add(attribute.getKey(), value);
+			} else if (!equal(previous, value)) {
+				if (mergeObjects && previous.isObject() && value.isObject()) {
+					builder.add(attribute.getKey(), ValueType.OBJECT);
+					addChanges(builder, previous, value, mergeObjects);
+					builder.close();
+				} else {
+					builder.add(attribute.getKey(), value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return whether both values have the same encoding
+	 */
+	public static boolean equal(final VPackSlice a, final VPackSlice b) {
+		final int size = a.getByteSize();
+		if (size != b.getByteSize()) {
+			return false;
+		}
+		final byte[] bufferA = a.getBuffer();
+		final byte[] bufferB = b.getBuffer();
+		final int startA = a.getStart();
+		final int startB = b.getStart();
+		for (int i = 0; i < size; i++) {
+			if (bufferA[startA + i] != bufferB[startB + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -42,6 +42,11 @@ public class ChunkStore {
 
 	public ByteBuffer storeChunk(final Chunk chunk) throws BufferUnderflowException, IndexOutOfBoundsException {
 		final long messageId = chunk.getMessageId();
+		if (!messageStore.isPending(messageId)) {
+			// the message was cancelled, drop what was received so far
+			data.remove(messageId);
+			return null;
+		}
 		ByteBuffer chunkBuffer = data.get(messageId);
 		if (chunkBuffer == null) {
 			if (!chunk.isFirstChunk()) {
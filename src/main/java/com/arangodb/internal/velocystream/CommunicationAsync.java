@@ -123,7 +123,13 @@ public class CommunicationAsync extends Communication<CompletableFuture<Response
 		final CompletableFuture<Response> rfuture = new CompletableFuture<>();
 		try {
 			final Message message = createMessage(request);
-			send(message).whenComplete((m, ex) -> {
+			final CompletableFuture<Message> sent = send(message);
+			rfuture.whenComplete((r, ex) -> {
+				if (rfuture.isCancelled()) {
+					sent.cancel(true);
+				}
+			});
+			sent.whenComplete((m, ex) -> {
 				if (m != null) {
 					try {
 						collectionCache.setDb(request.getDatabase());
@@ -135,6 +141,9 @@ public class CommunicationAsync extends Communication<CompletableFuture<Response
 								final String errorMessage = String.format("Response: %s, Error: %s - %s",
 									errorEntity.getCode(), errorEntity.getErrorNum(), errorEntity.getErrorMessage());
 								rfuture.completeExceptionally(new ArangoDBException(errorMessage));
+							} else if (response.getResponseCode() == 304) {
+								rfuture.completeExceptionally(new NotModifiedException(
+										String.format("Response Code: %s", response.getResponseCode())));
 							} else {
 								rfuture.completeExceptionally(new ArangoDBException(
 										String.format("Response Code: %s", response.getResponseCode())));
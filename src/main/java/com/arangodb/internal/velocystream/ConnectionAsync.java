@@ -106,9 +106,10 @@ public class ConnectionAsync extends Connection {
 				try {
 					final Chunk chunk = readChunk();
 					final ByteBuffer chunkBuffer = chunkStore.storeChunk(chunk);
+					// the content has to be read even if the chunk is discarded, to stay in sync with the stream
+					final byte[] buf = new byte[chunk.getContentLength()];
+					readBytesIntoBuffer(buf, 0, buf.length);
 					if (chunkBuffer != null) {
-						final byte[] buf = new byte[chunk.getContentLength()];
-						readBytesIntoBuffer(buf, 0, buf.length);
 						chunkBuffer.put(buf);
 						chunkStore.checkCompleteness(chunk.getMessageId());
 					}
@@ -133,6 +134,11 @@ public class ConnectionAsync extends Connection {
 	public synchronized CompletableFuture<Message> write(final Message message, final Collection<Chunk> chunks) {
 		final CompletableFuture<Message> future = new CompletableFuture<>();
 		messageStore.storeMessage(message.getId(), future);
+		future.whenComplete((m, ex) -> {
+			if (future.isCancelled()) {
+				messageStore.remove(message.getId());
+			}
+		});
 		super.writeIntern(message, chunks);
 		return future;
 	}
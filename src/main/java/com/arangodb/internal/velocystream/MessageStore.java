@@ -57,6 +57,20 @@ public class MessageStore {
 		}
 	}
 
+	public boolean isPending(final long messageId) {
+		return data.containsKey(messageId);
+	}
+
+	/**
+	 * Forgets a message whose response is no longer awaited, because the caller cancelled it. The response is
+	 * discarded when it arrives.
+	 */
+	public void remove(final long messageId) {
+		if (data.remove(messageId) != null && LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Remove cancelled Message (id=%s).", messageId));
+		}
+	}
+
 	public void cancel(final long messageId) {
 		final CompletableFuture<Message> future = data.remove(messageId);
 		if (future != null) {
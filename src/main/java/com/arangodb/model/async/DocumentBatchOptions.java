@@ -0,0 +1,97 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model.async;
+
+/**
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class DocumentBatchOptions {
+
+	private Integer maxBatchSize;
+	private Long maxDelay;
+	private Long maxBatchBytes;
+	private Integer parallelism;
+
+	public DocumentBatchOptions() {
+		super();
+	}
+
+	public Integer getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * @param maxBatchSize
+	 *            The maximum number of operations sent in one request (default 100)
+	 * @return options
+	 */
+	public DocumentBatchOptions maxBatchSize(final Integer maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+		return this;
+	}
+
+	public Long getMaxDelay() {
+		return maxDelay;
+	}
+
+	/**
+	 * @param maxDelay
+	 *            The maximum time in milliseconds an operation waits for further operations to be sent with (default
+	 *            5)
+	 * @return options
+	 */
+	public DocumentBatchOptions maxDelay(final Long maxDelay) {
+		this.maxDelay = maxDelay;
+		return this;
+	}
+
+	public Long getMaxBatchBytes() {
+		return maxBatchBytes;
+	}
+
+	/**
+	 * @param maxBatchBytes
+	 *            The serialized size in bytes after which the pending operations are sent, only used by
+	 *            {@link com.arangodb.ArangoBulkWriter} (default unlimited)
+	 * @return options
+	 */
+	public DocumentBatchOptions maxBatchBytes(final Long maxBatchBytes) {
+		this.maxBatchBytes = maxBatchBytes;
+		return this;
+	}
+
+	public Integer getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @param parallelism
+	 *            The maximum number of requests in flight at the same time, further batches are queued (default
+	 *            unlimited)
+	 * @return options
+	 */
+	public DocumentBatchOptions parallelism(final Integer parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model.async;
+
+/**
+ * @author Mark - mark at arangodb.com
+ *
+ * @see <a href="https://docs.arangodb.com/current/HTTP/BulkImports/ImportingSelfContained.html">API Documentation</a>
+ */
+public class DocumentImportOptions {
+
+	public enum OnDuplicate {
+		error, update, replace, ignore
+	}
+
+	private OnDuplicate onDuplicate;
+	private Boolean complete;
+	private Boolean details;
+	private Boolean waitForSync;
+	private Integer batchSize;
+	private Long batchBytes;
+	private Integer parallelism;
+
+	public DocumentImportOptions() {
+		super();
+	}
+
+	public OnDuplicate getOnDuplicate() {
+		return onDuplicate;
+	}
+
+	/**
+	 * @param onDuplicate
+	 *            Controls what action is carried out in case of a unique key constraint violation. Possible values
+	 *            are: error (default), update, replace and ignore
+	 * @return options
+	 */
+	public DocumentImportOptions onDuplicate(final OnDuplicate onDuplicate) {
+		this.onDuplicate = onDuplicate;
+		return this;
+	}
+
+	public Boolean getComplete() {
+		return complete;
+	}
+
+	/**
+	 * @param complete
+	 *            If set to true, a batch is aborted if any error occurs in it. Batches already imported are not
+	 *            rolled back.
+	 * @return options
+	 */
+	public DocumentImportOptions complete(final Boolean complete) {
+		this.complete = complete;
+		return this;
+	}
+
+	public Boolean getDetails() {
+		return details;
+	}
+
+	/**
+	 * @param details
+	 *            If set to true or not set, the result contains details about documents that could not be imported
+	 * @return options
+	 */
+	public DocumentImportOptions details(final Boolean details) {
+		this.details = details;
+		return this;
+	}
+
+	public Boolean getWaitForSync() {
+		return waitForSync;
+	}
+
+	/**
+	 * @param waitForSync
+	 *            Wait until the documents have been synced to disk
+	 * @return options
+	 */
+	public DocumentImportOptions waitForSync(final Boolean waitForSync) {
+		this.waitForSync = waitForSync;
+		return this;
+	}
+
+	public Integer getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @param batchSize
+	 *            The maximum number of documents sent in one request (default 1000)
+	 * @return options
+	 */
+	public DocumentImportOptions batchSize(final Integer batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	public Long getBatchBytes() {
+		return batchBytes;
+	}
+
+	/**
+	 * @param batchBytes
+	 *            The maximum size in bytes of the documents sent in one request, a single larger document is sent
+	 *            alone (default 4 MiB)
+	 * @return options
+	 */
+	public DocumentImportOptions batchBytes(final Long batchBytes) {
+		this.batchBytes = batchBytes;
+		return this;
+	}
+
+	public Integer getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @param parallelism
+	 *            The maximum number of requests in flight at the same time (default 4)
+	 * @return options
+	 */
+	public DocumentImportOptions parallelism(final Integer parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+}
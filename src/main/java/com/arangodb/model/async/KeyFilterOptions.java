@@ -0,0 +1,66 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model.async;
+
+/**
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class KeyFilterOptions {
+
+	private Long expectedKeys;
+	private Double falsePositiveProbability;
+
+	public KeyFilterOptions() {
+		super();
+	}
+
+	public Long getExpectedKeys() {
+		return expectedKeys;
+	}
+
+	/**
+	 * @param expectedKeys
+	 *            The number of keys the filter is dimensioned for, including keys inserted later (default twice the
+	 *            current number of documents, at least 1024)
+	 * @return options
+	 */
+	public KeyFilterOptions expectedKeys(final Long expectedKeys) {
+		this.expectedKeys = expectedKeys;
+		return this;
+	}
+
+	public Double getFalsePositiveProbability() {
+		return falsePositiveProbability;
+	}
+
+	/**
+	 * @param falsePositiveProbability
+	 *            The probability of a missing key being looked up on the server, once the expected number of keys is
+	 *            reached (default 0.01)
+	 * @return options
+	 */
+	public KeyFilterOptions falsePositiveProbability(final Double falsePositiveProbability) {
+		this.falsePositiveProbability = falsePositiveProbability;
+		return this;
+	}
+
+}
@@ -32,15 +32,26 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.CollectionEntity;
@@ -52,6 +63,8 @@ import com.arangodb.entity.DocumentUpdateEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.IndexType;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.async.DocumentImportEntity;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionPropertiesOptions;
 import com.arangodb.model.DocumentCreateOptions;
 import com.arangodb.model.DocumentDeleteOptions;
@@ -59,6 +72,10 @@ import com.arangodb.model.DocumentExistsOptions;
 import com.arangodb.model.DocumentReadOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.model.async.DocumentBatchOptions;
+import com.arangodb.model.async.DocumentImportOptions;
+import com.arangodb.model.async.DocumentImportOptions.OnDuplicate;
+import com.arangodb.model.async.KeyFilterOptions;
 
 /**
  * @author Mark - mark at arangodb.com
@@ -217,6 +234,31 @@ public class ArangoCollectionTest extends BaseTest {
 		f.get();
 	}
 
+	@Test
+	public void getDocumentCached() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().documentReadCacheSize(1024 * 1024L).build();
+		final ArangoCollectionAsync collection = arangoDB.db(TEST_DB).collection(COLLECTION_NAME);
+		try {
+			final BaseDocument value = new BaseDocument();
+			value.addAttribute("a", "test");
+			final DocumentCreateEntity<BaseDocument> createResult = collection.insertDocument(value, null).get();
+			final BaseDocument first = collection.getDocument(createResult.getKey(), BaseDocument.class).get();
+			assertThat(first.getAttribute("a"), is("test"));
+			final BaseDocument revalidated = collection.getDocument(createResult.getKey(), BaseDocument.class).get();
+			assertThat(revalidated.getRevision(), is(first.getRevision()));
+			assertThat(revalidated.getAttribute("a"), is("test"));
+			value.updateAttribute("a", "test1");
+			collection.updateDocument(createResult.getKey(), value).get();
+			final BaseDocument updated = collection.getDocument(createResult.getKey(), BaseDocument.class).get();
+			assertThat(updated.getAttribute("a"), is("test1"));
+			assertThat(updated.getRevision(), is(not(first.getRevision())));
+			collection.deleteDocument(createResult.getKey()).get();
+			assertThat(collection.getDocument(createResult.getKey(), BaseDocument.class).get(), is(nullValue()));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
 	@Test
 	public void getDocumentAsJson() throws InterruptedException, ExecutionException {
 		db.collection(COLLECTION_NAME).insertDocument("{\"_key\":\"docRaw\",\"a\":\"test\"}", null);
@@ -278,6 +320,27 @@ public class ArangoCollectionTest extends BaseTest {
 		assertThat(readResult.getProperties().keySet(), hasItem("c"));
 	}
 
+	@Test
+	public void updateDocumentDiff() throws InterruptedException, ExecutionException {
+		final ArangoCollectionAsync collection = db.collection(COLLECTION_NAME);
+		final BaseDocument doc = new BaseDocument();
+		doc.addAttribute("a", "test");
+		doc.addAttribute("b", "test");
+		final DocumentCreateEntity<BaseDocument> createResult = collection.insertDocument(doc, null).get();
+		final BaseDocument before = collection.getDocument(createResult.getKey(), BaseDocument.class).get();
+		final BaseDocument after = collection.getDocument(createResult.getKey(), BaseDocument.class).get();
+		after.updateAttribute("b", "test1");
+		after.addAttribute("c", "test");
+		final DocumentUpdateEntity<BaseDocument> updateResult = collection
+				.updateDocumentDiff(createResult.getKey(), before, after).get();
+		assertThat(updateResult.getRev(), is(not(updateResult.getOldRev())));
+		final BaseDocument readResult = collection.getDocument(createResult.getKey(), BaseDocument.class).get();
+		assertThat(readResult.getAttribute("a").toString(), is("test"));
+		assertThat(readResult.getAttribute("b").toString(), is("test1"));
+		assertThat(readResult.getAttribute("c").toString(), is("test"));
+		assertThat(readResult.getRevision(), is(updateResult.getRev()));
+	}
+
 	@Test
 	public void updateDocumentIfMatch() throws InterruptedException, ExecutionException {
 		final BaseDocument doc = new BaseDocument();
@@ -948,6 +1011,39 @@ public class ArangoCollectionTest extends BaseTest {
 		}
 	}
 
+	@Test
+	public void documentsExist() throws InterruptedException, ExecutionException {
+		final Collection<BaseDocument> values = new ArrayList<>();
+		values.add(new BaseDocument("e1"));
+		values.add(new BaseDocument("e3"));
+		db.collection(COLLECTION_NAME).insertDocuments(values, null).get();
+		final BitSet exist = db.collection(COLLECTION_NAME).documentsExist(Arrays.asList("e0", "e1", "e2", "e3", "e1"),
+			new DocumentBatchOptions().maxBatchSize(2).parallelism(2)).get();
+		assertThat(exist.cardinality(), is(3));
+		assertThat(exist.get(1), is(true));
+		assertThat(exist.get(3), is(true));
+		assertThat(exist.get(4), is(true));
+	}
+
+	@Test
+	public void documentExistsKeyFilter() throws InterruptedException, ExecutionException {
+		final ArangoCollectionAsync collection = db.collection(COLLECTION_NAME);
+		collection.insertDocument(new BaseDocument("f1"), null).get();
+		collection.loadKeyFilter(new KeyFilterOptions().expectedKeys(100L)).get();
+		try {
+			assertThat(collection.documentExists("f1").get(), is(true));
+			assertThat(collection.documentExists("f2").get(), is(false));
+			collection.insertDocument(new BaseDocument("f2"), null).get();
+			assertThat(collection.documentExists("f2").get(), is(true));
+			final BitSet exist = collection.documentsExist(Arrays.asList("f0", "f1", "f2")).get();
+			assertThat(exist.get(0), is(false));
+			assertThat(exist.get(1), is(true));
+			assertThat(exist.get(2), is(true));
+		} finally {
+			collection.dropKeyFilter();
+		}
+	}
+
 	@Test
 	public void documentExistsIfMatch() throws InterruptedException, ExecutionException {
 		final DocumentCreateEntity<String> createResult = db.collection(COLLECTION_NAME)
@@ -1095,6 +1191,244 @@ public class ArangoCollectionTest extends BaseTest {
 		f.get();
 	}
 
+	@Test
+	public void insertDocumentsSplit() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().multiDocumentBatchSize(2)
+				.multiDocumentBatchBytes(1024L).multiDocumentParallelism(2).build();
+		final ArangoCollectionAsync collection = arangoDB.db(TEST_DB).collection(COLLECTION_NAME);
+		try {
+			final Collection<BaseDocument> values = new ArrayList<>();
+			final List<String> keys = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				values.add(new BaseDocument("s" + i));
+				keys.add("s" + i);
+			}
+			values.add(new BaseDocument("s0"));
+			final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> inserted = collection
+					.insertDocuments(values, null).get();
+			assertThat(inserted.getDocuments().size(), is(5));
+			assertThat(inserted.getErrors().size(), is(1));
+			final List<String> insertedKeys = new ArrayList<>();
+			for (final DocumentCreateEntity<BaseDocument> document : inserted.getDocuments()) {
+				insertedKeys.add(document.getKey());
+			}
+			assertThat(insertedKeys, is(keys));
+			final MultiDocumentEntity<DocumentDeleteEntity<Void>> deleted = collection.deleteDocuments(keys).get();
+			assertThat(deleted.getDocuments().size(), is(5));
+			assertThat(collection.count().get().getCount(), is(0L));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void insertDocumentsParallelSerialization() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().parallelSerializationThreshold(10).build();
+		final ArangoCollectionAsync collection = arangoDB.db(TEST_DB).collection(COLLECTION_NAME);
+		try {
+			final List<BaseDocument> values = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				final BaseDocument value = new BaseDocument("p" + i);
+				value.addAttribute("a", i);
+				values.add(value);
+			}
+			final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> inserted = collection
+					.insertDocuments(values, null).get();
+			assertThat(inserted.getDocuments().size(), is(100));
+			assertThat(inserted.getErrors().size(), is(0));
+			assertThat(values.get(42).getRevision(), is(notNullValue()));
+			final BaseDocument document = collection.getDocument("p42", BaseDocument.class).get();
+			assertThat(document.getAttribute("a").toString(), is("42"));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void insertBatcher() throws InterruptedException, ExecutionException {
+		final ArangoInsertBatcher<BaseDocument> batcher = db.collection(COLLECTION_NAME)
+				.insertBatcher(new DocumentBatchOptions().maxBatchSize(5).maxDelay(10L), null);
+		final Collection<CompletableFuture<DocumentCreateEntity<BaseDocument>>> results = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			final BaseDocument doc = new BaseDocument();
+			doc.setKey(i == 6 ? "0" : String.valueOf(i));
+			results.add(batcher.insertDocument(doc));
+		}
+		int errors = 0;
+		for (final CompletableFuture<DocumentCreateEntity<BaseDocument>> result : results) {
+			try {
+				assertThat(result.get().getKey(), is(notNullValue()));
+			} catch (final ExecutionException e) {
+				assertThat(e.getCause(), instanceOf(ArangoDBException.class));
+				errors++;
+			}
+		}
+		assertThat(errors, is(1));
+		assertThat(db.collection(COLLECTION_NAME).count().get().getCount(), is(6L));
+	}
+
+	@Test
+	public void bulkWriter() throws InterruptedException, ExecutionException {
+		final ArangoCollectionAsync collection = db.collection(COLLECTION_NAME);
+		final ArangoBulkWriter<BaseDocument> writer = collection
+				.bulkWriter(new DocumentBatchOptions().maxBatchSize(3).maxDelay(1000L).parallelism(1));
+		final List<CompletableFuture<DocumentCreateEntity<BaseDocument>>> inserts = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			final BaseDocument value = new BaseDocument();
+			value.setKey("bulk" + i);
+			value.addAttribute("a", i);
+			inserts.add(writer.insertDocument(value));
+		}
+		final BaseDocument update = new BaseDocument();
+		update.setKey("bulk0");
+		update.addAttribute("a", 10);
+		final CompletableFuture<DocumentUpdateEntity<BaseDocument>> updated = writer.updateDocument(update);
+		final CompletableFuture<DocumentDeleteEntity<Void>> deleted = writer.deleteDocument("bulk1");
+		final BaseDocument duplicate = new BaseDocument();
+		duplicate.setKey("bulk2");
+		final CompletableFuture<DocumentCreateEntity<BaseDocument>> failed = writer.insertDocument(duplicate);
+		writer.flush().get();
+		for (final CompletableFuture<DocumentCreateEntity<BaseDocument>> insert : inserts) {
+			assertThat(insert.get().getKey(), is(notNullValue()));
+		}
+		assertThat(updated.get().getKey(), is("bulk0"));
+		assertThat(deleted.get().getKey(), is("bulk1"));
+		assertThat(failed.isCompletedExceptionally(), is(true));
+		assertThat(collection.getDocument("bulk0", BaseDocument.class).get().getAttribute("a").toString(), is("10"));
+		assertThat(collection.getDocument("bulk1", BaseDocument.class).get(), is(nullValue()));
+		assertThat(collection.count().get().getCount(), is(4L));
+	}
+
+	@Test
+	public void documentLoader() throws InterruptedException, ExecutionException {
+		for (int i = 0; i < 3; i++) {
+			final BaseDocument doc = new BaseDocument();
+			doc.setKey(String.valueOf(i));
+			doc.addAttribute("value", i);
+			db.collection(COLLECTION_NAME).insertDocument(doc, null).get();
+		}
+		final ArangoDocumentLoader<BaseDocument> loader = db.collection(COLLECTION_NAME)
+				.documentLoader(new DocumentBatchOptions().maxDelay(10L), BaseDocument.class);
+		final Collection<CompletableFuture<BaseDocument>> results = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			results.add(loader.getDocument(String.valueOf(i)));
+		}
+		int i = 0;
+		for (final CompletableFuture<BaseDocument> result : results) {
+			if (i < 3) {
+				assertThat(result.get().getKey(), is(String.valueOf(i)));
+				assertThat(String.valueOf(result.get().getAttribute("value")), is(String.valueOf(i)));
+			} else {
+				assertThat(result.get(), is(nullValue()));
+			}
+			i++;
+		}
+	}
+
+	@Test
+	public void importDocuments() throws InterruptedException, ExecutionException {
+		final Collection<BaseDocument> values = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			final BaseDocument doc = new BaseDocument();
+			doc.setKey(String.valueOf(i % 20));
+			values.add(doc);
+		}
+		final DocumentImportEntity result = db.collection(COLLECTION_NAME)
+				.importDocuments(values, new DocumentImportOptions().batchSize(10).parallelism(2)).get();
+		assertThat(result.getCreated(), is(20));
+		assertThat(result.getErrors(), is(5));
+		assertThat(result.getDetails().size(), is(5));
+		assertThat(db.collection(COLLECTION_NAME).count().get().getCount(), is(20L));
+	}
+
+	@Test
+	public void importDocumentsOnDuplicateIgnore() throws InterruptedException, ExecutionException {
+		final DocumentImportEntity result = db.collection(COLLECTION_NAME).importDocuments(
+			Stream.of("1", "2", "1").map(key -> new BaseDocument(key)),
+			new DocumentImportOptions().onDuplicate(OnDuplicate.ignore).batchSize(2)).get();
+		assertThat(result.getCreated(), is(2));
+		assertThat(result.getIgnored(), is(1));
+		assertThat(result.getErrors(), is(0));
+	}
+
+	@Test
+	public void export() throws InterruptedException, ExecutionException {
+		final Collection<BaseDocument> values = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			values.add(new BaseDocument(String.valueOf(i)));
+		}
+		db.collection(COLLECTION_NAME).insertDocuments(values, null).get();
+		final Publisher<BaseDocument> publisher = db.collection(COLLECTION_NAME).export(4,
+			new AqlQueryOptions().batchSize(10), BaseDocument.class);
+		final Set<String> keys = ConcurrentHashMap.newKeySet();
+		final CompletableFuture<Void> done = new CompletableFuture<>();
+		publisher.subscribe(new Subscriber<BaseDocument>() {
+			@Override
+			public void onSubscribe(final Subscription s) {
+				s.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(final BaseDocument t) {
+				keys.add(t.getKey());
+			}
+
+			@Override
+			public void onError(final Throwable t) {
+				done.completeExceptionally(t);
+			}
+
+			@Override
+			public void onComplete() {
+				done.complete(null);
+			}
+		});
+		done.get();
+		assertThat(keys.size(), is(50));
+	}
+
+	@Test
+	public void exportPartitions() throws InterruptedException, ExecutionException {
+		final Collection<BaseDocument> values = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			values.add(new BaseDocument(String.valueOf(i)));
+		}
+		db.collection(COLLECTION_NAME).insertDocuments(values, null).get();
+		final List<Publisher<BaseDocument>> publishers = db.collection(COLLECTION_NAME).exportPartitions(3,
+			new AqlQueryOptions().batchSize(10), BaseDocument.class);
+		assertThat(publishers.size(), is(3));
+		final List<String> keys = Collections.synchronizedList(new ArrayList<>());
+		final List<CompletableFuture<Void>> partitions = new ArrayList<>();
+		for (final Publisher<BaseDocument> publisher : publishers) {
+			final CompletableFuture<Void> done = new CompletableFuture<>();
+			partitions.add(done);
+			publisher.subscribe(new Subscriber<BaseDocument>() {
+				@Override
+				public void onSubscribe(final Subscription s) {
+					s.request(Long.MAX_VALUE);
+				}
+
+				@Override
+				public void onNext(final BaseDocument t) {
+					keys.add(t.getKey());
+				}
+
+				@Override
+				public void onError(final Throwable t) {
+					done.completeExceptionally(t);
+				}
+
+				@Override
+				public void onComplete() {
+					done.complete(null);
+				}
+			});
+		}
+		CompletableFuture.allOf(partitions.toArray(new CompletableFuture[partitions.size()])).get();
+		assertThat(keys.size(), is(50));
+		assertThat(new HashSet<>(keys).size(), is(50));
+	}
+
 	@Test
 	public void deleteDocuments() throws InterruptedException, ExecutionException {
 		final Collection<BaseDocument> values = new ArrayList<>();
@@ -1414,6 +1748,26 @@ public class ArangoCollectionTest extends BaseTest {
 		f.get();
 	}
 
+	@Test
+	public void getPropertiesMetadataCache() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().metadataCacheTtl(60000L).build();
+		final ArangoCollectionAsync collection = arangoDB.db(TEST_DB).collection(COLLECTION_NAME);
+		try {
+			final Boolean waitForSync = collection.getProperties().get().getWaitForSync();
+			db.collection(COLLECTION_NAME).changeProperties(new CollectionPropertiesOptions().waitForSync(!waitForSync))
+					.get();
+			assertThat(collection.getProperties().get().getWaitForSync(), is(waitForSync));
+			collection.changeProperties(new CollectionPropertiesOptions().waitForSync(waitForSync)).get();
+			assertThat(collection.getProperties().get().getWaitForSync(), is(waitForSync));
+			db.collection(COLLECTION_NAME).changeProperties(new CollectionPropertiesOptions().waitForSync(!waitForSync))
+					.get();
+			collection.createHashIndex(Arrays.asList("a"), null).get();
+			assertThat(collection.getProperties().get().getWaitForSync(), is(!waitForSync));
+		} finally {
+			arangoDB.shutdown();
+		}
+	}
+
 	@Test
 	public void rename() throws InterruptedException, ExecutionException {
 		try {
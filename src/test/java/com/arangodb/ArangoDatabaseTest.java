@@ -25,6 +25,7 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -38,9 +39,13 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Ignore;
 import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.arangodb.entity.AqlExecutionExplainEntity;
 import com.arangodb.entity.AqlExecutionExplainEntity.ExecutionNode;
@@ -376,6 +381,308 @@ public class ArangoDatabaseTest extends BaseTest {
 		}
 	}
 
+	@Test
+	public void queryNextBatch() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final ArangoCursorAsync<String> cursor = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(5), String.class).get();
+			assertThat(cursor, is(notNullValue()));
+			assertThat(cursor.nextBatch().get().size(), is(5));
+			assertThat(cursor.nextBatch().get().size(), is(5));
+			assertThat(cursor.nextBatch().get(), is(empty()));
+			assertThat(cursor.hasNext(), is(false));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void queryForEachAsync() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final ArangoCursorAsync<String> cursor = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3), String.class).get();
+			final AtomicInteger i = new AtomicInteger(0);
+			cursor.forEachAsync(e -> {
+				i.incrementAndGet();
+			}).get();
+			assertThat(i.get(), is(10));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void queryForEachBatch() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final ArangoCursorAsync<String> cursor = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3), String.class).get();
+			final AtomicInteger i = new AtomicInteger(0);
+			cursor.forEachBatch((batch, elements) -> {
+				while (elements.next()) {
+					assertThat(elements.current().getAsString(), is(notNullValue()));
+					i.incrementAndGet();
+				}
+			}).get();
+			assertThat(i.get(), is(10));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void queryLongs() throws InterruptedException, ExecutionException {
+		final long sum = db.queryLongs("for i in 1..1000 return i", null, new AqlQueryOptions().batchSize(100)).get()
+				.sum();
+		assertThat(sum, is(500500L));
+	}
+
+	@Test
+	public void queryInts() throws InterruptedException, ExecutionException {
+		final int[] values = db.queryInts("for i in 1..10 return i", null, null).get().toArray();
+		assertThat(values.length, is(10));
+		assertThat(values[9], is(10));
+	}
+
+	@Test
+	public void queryIntsOutOfRange() throws InterruptedException, ExecutionException {
+		try {
+			db.queryInts("return 4294967296", null, null).get();
+			fail();
+		} catch (final ExecutionException e) {
+			assertThat(e.getCause() instanceof ArangoDBException, is(true));
+		}
+	}
+
+	@Test
+	public void queryDoubles() throws InterruptedException, ExecutionException {
+		final double sum = db.queryDoubles("for i in 1..4 return i / 2", null, new AqlQueryOptions().batchSize(3)).get()
+				.sum();
+		assertThat(sum, is(5.0));
+	}
+
+	@Test
+	public void queryColumnBatches() throws InterruptedException, ExecutionException {
+		final ArangoCursorAsync<VPackSlice> cursor = db.query(
+			"for i in 1..10 return {number: i, half: i / 2, parity: i % 2 == 0 ? 'even' : 'odd'}", null,
+			new AqlQueryOptions().batchSize(4), VPackSlice.class).get();
+		final AtomicInteger rows = new AtomicInteger(0);
+		cursor.forEachColumnBatch(batch -> {
+			final int number = batch.getColumn("number");
+			final int half = batch.getColumn("half");
+			final int parity = batch.getColumn("parity");
+			assertThat(batch.getType(number), is(ArangoColumnBatch.ColumnType.LONG));
+			assertThat(batch.getType(parity), is(ArangoColumnBatch.ColumnType.STRING));
+			assertThat(batch.getDictionary(parity).length, is(lessThanOrEqualTo(2)));
+			for (int i = 0; i < batch.size(); i++) {
+				final long value = batch.getLongs(number)[i];
+				assertThat(batch.getString(parity, i), is(value % 2 == 0 ? "even" : "odd"));
+				final double halfValue = batch.getType(half) == ArangoColumnBatch.ColumnType.DOUBLE
+						? batch.getDoubles(half)[i] : batch.getLongs(half)[i];
+				assertThat(halfValue, is(value / 2.0));
+			}
+			rows.addAndGet(batch.size());
+		}).get();
+		assertThat(rows.get(), is(10));
+	}
+
+	@Test
+	public void queryOpenCursorCount() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final int open = arangoDB.getOpenCursorCount();
+			final ArangoCursorAsync<String> cursor = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3), String.class).get();
+			assertThat(arangoDB.getOpenCursorCount(), is(open + 1));
+			cursor.close();
+			assertThat(arangoDB.getOpenCursorCount(), is(open));
+			final ArangoCursorAsync<String> exhausted = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3), String.class).get();
+			exhausted.forEachAsync(e -> {
+			}).get();
+			assertThat(arangoDB.getOpenCursorCount(), is(open));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void cachedQuery() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().queryResultCacheSize(10)
+				.queryResultCacheRevisionCheck(true).build();
+		final ArangoDatabaseAsync db = arangoDB.db(TEST_DB);
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			final AqlQueryOptions options = new AqlQueryOptions().count(true);
+			final ArangoCursorAsync<String> first = db
+					.cachedQuery("for i in db_test return i._id", null, options, String.class).get();
+			assertThat(first.getCount(), is(1));
+			final ArangoCursorAsync<String> cached = db
+					.cachedQuery("for i in db_test return i._id", null, options, String.class).get();
+			assertThat(cached.getCount(), is(1));
+			assertThat(cached.next(), is(first.next()));
+			db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			final ArangoCursorAsync<String> invalidated = db
+					.cachedQuery("for i in db_test return i._id", null, options, String.class).get();
+			assertThat(invalidated.getCount(), is(2));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+			arangoDB.shutdown();
+		}
+	}
+
+	@Test
+	public void preparedQuery() throws InterruptedException, ExecutionException {
+		final ArangoPreparedQuery prepared = db.prepare("for i in 1..@max return i", new AqlQueryOptions().count(true));
+		for (int max = 1; max <= 3; max++) {
+			final Map<String, Object> bindVars = new HashMap<>();
+			bindVars.put("max", max);
+			final ArangoCursorAsync<Integer> cursor = prepared.execute(bindVars, Integer.class).get();
+			assertThat(cursor.getCount(), is(max));
+		}
+	}
+
+	@Test
+	public void queryWithPrefetch() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final ArangoCursorAsync<String> cursor = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(2), String.class).get().prefetch(2, 1024 * 1024);
+			int count = 0;
+			for (; cursor.hasNext(); cursor.next(), count++) {
+			}
+			assertThat(count, is(10));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void queryForEachAsyncPrefetchedManyBatches() throws InterruptedException, ExecutionException {
+		final ArangoCursorAsync<Long> cursor = db.query("for i in 1..5000 return i", null,
+			new AqlQueryOptions().batchSize(1), Long.class).get().prefetch(8, 1024 * 1024);
+		final AtomicLong sum = new AtomicLong();
+		cursor.forEachAsync(sum::addAndGet).get();
+		assertThat(sum.get(), is(5000L * 5001L / 2));
+	}
+
+	@Test
+	public void queryPublisher() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final Publisher<String> publisher = db.queryPublisher("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3), String.class);
+			final AtomicInteger i = new AtomicInteger(0);
+			final CompletableFuture<Integer> done = new CompletableFuture<>();
+			publisher.subscribe(new Subscriber<String>() {
+				private Subscription subscription;
+
+				@Override
+				public void onSubscribe(final Subscription s) {
+					subscription = s;
+					subscription.request(1);
+				}
+
+				@Override
+				public void onNext(final String t) {
+					i.incrementAndGet();
+					subscription.request(1);
+				}
+
+				@Override
+				public void onError(final Throwable t) {
+					done.completeExceptionally(t);
+				}
+
+				@Override
+				public void onComplete() {
+					done.complete(i.get());
+				}
+			});
+			assertThat(done.get(), is(10));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void queryPublisherCancel() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final Publisher<String> publisher = db.queryPublisher("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3), String.class);
+			final CompletableFuture<String> first = new CompletableFuture<>();
+			publisher.subscribe(new Subscriber<String>() {
+				private Subscription subscription;
+
+				@Override
+				public void onSubscribe(final Subscription s) {
+					subscription = s;
+					subscription.request(1);
+				}
+
+				@Override
+				public void onNext(final String t) {
+					subscription.cancel();
+					first.complete(t);
+				}
+
+				@Override
+				public void onError(final Throwable t) {
+					first.completeExceptionally(t);
+				}
+
+				@Override
+				public void onComplete() {
+					first.completeExceptionally(new IllegalStateException());
+				}
+			});
+			assertThat(first.get(), is(notNullValue()));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
+	@Test
+	public void queryStreamParallel() throws InterruptedException, ExecutionException {
+		try {
+			db.createCollection(COLLECTION_NAME, null).get();
+			for (int i = 0; i < 10; i++) {
+				db.collection(COLLECTION_NAME).insertDocument(new BaseDocument(), null).get();
+			}
+			final ArangoCursorAsync<String> cursor = db.query("for i in db_test return i._id", null,
+				new AqlQueryOptions().batchSize(3).count(true), String.class).get();
+			final long count = cursor.streamRemaining().parallel().filter(id -> id != null).count();
+			assertThat(count, is(10L));
+		} finally {
+			db.collection(COLLECTION_NAME).drop().get();
+		}
+	}
+
 	/**
 	 * ignored. takes to long
 	 * 
@@ -21,6 +21,7 @@
 package com.arangodb;
 
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -28,7 +29,9 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.After;
@@ -38,15 +41,18 @@ import org.junit.Test;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.BaseEdgeDocument;
 import com.arangodb.entity.CollectionType;
+import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.EdgeDefinition;
 import com.arangodb.entity.EdgeEntity;
 import com.arangodb.entity.EdgeUpdateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.DocumentReadOptions;
 import com.arangodb.model.EdgeDeleteOptions;
 import com.arangodb.model.EdgeReplaceOptions;
 import com.arangodb.model.EdgeUpdateOptions;
+import com.arangodb.model.async.DocumentBatchOptions;
 
 /**
  * @author Mark - mark at arangodb.com
@@ -108,6 +114,39 @@ public class ArangoEdgeCollectionTest extends BaseTest {
 		assertThat(document.getKey(), is(edge.getKey()));
 	}
 
+	@Test
+	public void insertEdges() throws InterruptedException, ExecutionException {
+		final List<BaseEdgeDocument> values = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			values.add(createEdgeValue());
+		}
+		final ArangoEdgeCollectionAsync collection = db.graph(GRAPH_NAME).edgeCollection(EDGE_COLLECTION_NAME);
+		final MultiDocumentEntity<DocumentCreateEntity<BaseEdgeDocument>> inserted = collection
+				.insertEdges(values, null, new DocumentBatchOptions().maxBatchSize(2)).get();
+		assertThat(inserted.getDocuments().size(), is(5));
+		assertThat(inserted.getErrors().size(), is(0));
+		final List<BaseEdgeDocument> edges = collection
+				.getEdges(Arrays.asList(values.get(3).getKey()), BaseEdgeDocument.class, null).get();
+		assertThat(edges.get(0).getFrom(), is(values.get(3).getFrom()));
+		collection.deleteEdges(Arrays.asList(values.get(0).getKey(), values.get(1).getKey()), null, null).get();
+		assertThat(db.collection(EDGE_COLLECTION_NAME).count().get().getCount(), is(3L));
+	}
+
+	@Test
+	public void insertEdgesMissingVertex() throws InterruptedException, ExecutionException {
+		final BaseEdgeDocument valid = createEdgeValue();
+		final BaseEdgeDocument invalid = createEdgeValue();
+		invalid.setTo(VERTEX_COLLECTION_NAME + "/missing");
+		try {
+			db.graph(GRAPH_NAME).edgeCollection(EDGE_COLLECTION_NAME).insertEdges(Arrays.asList(valid, invalid), null,
+				null).get();
+			fail();
+		} catch (final ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(ArangoDBException.class));
+		}
+		assertThat(db.collection(EDGE_COLLECTION_NAME).count().get().getCount(), is(0L));
+	}
+
 	@Test
 	public void getEdge() throws InterruptedException, ExecutionException {
 		final BaseEdgeDocument value = createEdgeValue();
@@ -24,6 +24,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 
@@ -31,11 +32,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.arangodb.entity.CollectionEntity;
 import com.arangodb.entity.CollectionType;
 import com.arangodb.entity.EdgeDefinition;
 import com.arangodb.entity.GraphEntity;
@@ -132,6 +135,29 @@ public class ArangoGraphTest extends BaseTest {
 		assertThat(vertexCollections, hasItems(VERTEX_COL_1, VERTEX_COL_2, VERTEX_COL_3, VERTEX_COL_4));
 	}
 
+	@Test
+	public void addVertexCollectionMetadataCache() throws InterruptedException, ExecutionException {
+		final String name = "db_vertex5_collection_test";
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().metadataCacheTtl(60000L).build();
+		final ArangoDatabaseAsync database = arangoDB.db(TEST_DB);
+		try {
+			assertThat(collectionNames(database), not(hasItem(name)));
+			database.graph(GRAPH_NAME).addVertexCollection(name).get();
+			assertThat(collectionNames(database), hasItem(name));
+		} finally {
+			try {
+				db.collection(name).drop().get();
+			} catch (final Exception e) {
+			}
+			arangoDB.shutdown();
+		}
+	}
+
+	private static Collection<String> collectionNames(final ArangoDatabaseAsync database)
+			throws InterruptedException, ExecutionException {
+		return database.getCollections().get().stream().map(CollectionEntity::getName).collect(Collectors.toList());
+	}
+
 	@Test
 	public void getEdgeCollections() throws InterruptedException, ExecutionException {
 		final Collection<String> edgeCollections = db.graph(GRAPH_NAME).getEdgeDefinitions().get();
@@ -24,10 +24,14 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.After;
@@ -35,6 +39,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.entity.VertexUpdateEntity;
 import com.arangodb.model.DocumentReadOptions;
@@ -42,6 +48,7 @@ import com.arangodb.model.GraphCreateOptions;
 import com.arangodb.model.VertexDeleteOptions;
 import com.arangodb.model.VertexReplaceOptions;
 import com.arangodb.model.VertexUpdateOptions;
+import com.arangodb.model.async.DocumentBatchOptions;
 
 /**
  * @author Mark - mark at arangodb.com
@@ -89,6 +96,27 @@ public class ArangoVertexCollectionTest extends BaseTest {
 		assertThat(document.getKey(), is(vertex.getKey()));
 	}
 
+	@Test
+	public void insertVertices() throws InterruptedException, ExecutionException {
+		final ArangoVertexCollectionAsync collection = db.graph(GRAPH_NAME).vertexCollection(COLLECTION_NAME);
+		final List<BaseDocument> values = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			values.add(new BaseDocument("v" + i));
+		}
+		final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> inserted = collection
+				.insertVertices(values, null, new DocumentBatchOptions().maxBatchSize(3).parallelism(2)).get();
+		assertThat(inserted.getDocuments().size(), is(10));
+		assertThat(inserted.getErrors().size(), is(0));
+		final List<BaseDocument> documents = collection
+				.getVertices(Arrays.asList("v7", "missing", "v2"), BaseDocument.class, null).get();
+		assertThat(documents.size(), is(3));
+		assertThat(documents.get(0).getKey(), is("v7"));
+		assertThat(documents.get(1), is(nullValue()));
+		assertThat(documents.get(2).getKey(), is("v2"));
+		collection.deleteVertices(Arrays.asList("v1", "v2"), null, null).get();
+		assertThat(db.collection(COLLECTION_NAME).count().get().getCount(), is(8L));
+	}
+
 	@Test
 	public void getVertex() throws InterruptedException, ExecutionException {
 		final VertexEntity vertex = db.graph(GRAPH_NAME).vertexCollection(COLLECTION_NAME)
@@ -21,9 +21,11 @@
 package com.arangodb;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.Test;
 
@@ -41,4 +43,17 @@ public class CommunicationTest {
 		assertThat(result.isCompletedExceptionally(), is(true));
 	}
 
+	@Test
+	public void cancel() throws InterruptedException, ExecutionException {
+		final ArangoDBAsync arangoDB = new ArangoDBAsync.Builder().build();
+		final CompletableFuture<String> result = arangoDB.db()
+				.transaction("function () { require('internal').wait(1); return 'done'; }", String.class, null);
+		result.cancel(true);
+		assertThat(result.isCancelled(), is(true));
+		Thread.sleep(1500);
+		// the discarded response must not corrupt the following ones
+		assertThat(arangoDB.getVersion().get(), is(notNullValue()));
+		arangoDB.shutdown();
+	}
+
 }
@@ -0,0 +1,80 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.velocypack;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.arangodb.internal.velocypack.VPackArrayCursor;
+
+/**
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class VPackArrayCursorTest {
+
+	@Test
+	public void sameSizeElements() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.ARRAY);
+		for (int i = 0; i < 5; i++) {
+			builder.add(i);
+		}
+		builder.close();
+		final VPackArrayCursor cursor = new VPackArrayCursor().reset(builder.slice());
+		for (int i = 0; i < 5; i++) {
+			assertThat(cursor.next(), is(true));
+			assertThat(cursor.index(), is(i));
+			assertThat(cursor.current().getAsInt(), is(i));
+		}
+		assertThat(cursor.next(), is(false));
+	}
+
+	@Test
+	public void differentSizeElements() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.ARRAY);
+		for (int i = 0; i < 300; i++) {
+			builder.add("value" + i);
+		}
+		builder.close();
+		final VPackArrayCursor cursor = new VPackArrayCursor().reset(builder.slice(), 100);
+		assertThat(cursor.remaining(), is(200));
+		for (int i = 100; i < 300; i++) {
+			assertThat(cursor.next(), is(true));
+			assertThat(cursor.current().getAsString(), is("value" + i));
+		}
+		assertThat(cursor.next(), is(false));
+		assertThat(cursor.remaining(), is(0));
+	}
+
+	@Test
+	public void emptyArray() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.ARRAY);
+		builder.close();
+		final VPackArrayCursor cursor = new VPackArrayCursor().reset(builder.slice());
+		assertThat(cursor.next(), is(false));
+	}
+
+}
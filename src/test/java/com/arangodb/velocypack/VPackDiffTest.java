@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.velocypack;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.arangodb.internal.velocypack.VPackDiff;
+
+/**
+ * @author Mark - mark at arangodb.com
+ *
+ */
+public class VPackDiffTest {
+
+	private static VPackSlice document(final String name, final int age, final String city) {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		builder.add("_key", "k1");
+		builder.add("name", name);
+		builder.add("age", age);
+		builder.add("address", ValueType.OBJECT);
+		builder.add("city", city);
+		builder.add("street", "Main");
+		builder.close();
+		builder.close();
+		return builder.slice();
+	}
+
+	@Test
+	public void unchanged() {
+		final VPackSlice patch = VPackDiff.diff(document("a", 1, "x"), document("a", 1, "x"), true);
+		assertThat(patch.isObject(), is(true));
+		assertThat(patch.getLength(), is(0));
+	}
+
+	@Test
+	public void changedAttribute() {
+		final VPackSlice patch = VPackDiff.diff(document("a", 1, "x"), document("a", 2, "x"), true);
+		assertThat(patch.getLength(), is(1));
+		assertThat(patch.get("age").getAsInt(), is(2));
+	}
+
+	@Test
+	public void changedNestedAttribute() {
+		final VPackSlice patch = VPackDiff.diff(document("a", 1, "x"), document("a", 1, "y"), true);
+		assertThat(patch.getLength(), is(1));
+		assertThat(patch.get("address").getLength(), is(1));
+		assertThat(patch.get("address").get("city").getAsString(), is("y"));
+	}
+
+	@Test
+	public void changedNestedObjectWithoutMerge() {
+		final VPackSlice patch = VPackDiff.diff(document("a", 1, "x"), document("a", 1, "y"), false);
+		assertThat(patch.get("address").getLength(), is(2));
+		assertThat(patch.get("address").get("street").getAsString(), is("Main"));
+	}
+
+	@Test
+	public void addedAttribute() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		builder.add("_key", "k1");
+		builder.add("name", "a");
+		builder.add("tag", "new");
+		builder.close();
+		final VPackSlice patch = VPackDiff.diff(document("a", 1, "x"), builder.slice(), true);
+		assertThat(patch.getLength(), is(1));
+		assertThat(patch.get("tag").getAsString(), is("new"));
+	}
+
+}
@@ -32,6 +32,9 @@ import java.util.Date;
 
 import org.junit.Test;
 
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.BaseEdgeDocument;
+import com.arangodb.internal.CollectionCache;
 import com.arangodb.internal.velocypack.VPackConfigureAsync;
 
 /**
@@ -132,4 +135,85 @@ public class VPackSerializeDeserializeTest {
 		assertThat(entity2.localDateTime, is(entity.localDateTime));
 	}
 
+	@Test
+	public void deserializeBaseDocument() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.ARRAY);
+		for (int i = 0; i < 2; i++) {
+			builder.add(ValueType.OBJECT);
+			builder.add("_id", "test/" + i);
+			builder.add("_key", String.valueOf(i));
+			builder.add("_rev", "rev" + i);
+			builder.add("name", "doc" + i);
+			builder.add("value", i);
+			builder.close();
+		}
+		builder.close();
+
+		final VPack.Builder vpackBuilder = new VPack.Builder();
+		VPackConfigureAsync.configure(vpackBuilder);
+		final VPack vpack = vpackBuilder.build();
+		for (int i = 0; i < 2; i++) {
+			final BaseDocument document = vpack.deserialize(builder.slice().get(i), BaseDocument.class);
+			assertThat(document, is(notNullValue()));
+			assertThat(document.getId(), is("test/" + i));
+			assertThat(document.getKey(), is(String.valueOf(i)));
+			assertThat(document.getRevision(), is("rev" + i));
+			assertThat(document.getProperties().size(), is(2));
+			assertThat(String.valueOf(document.getAttribute("name")), is("doc" + i));
+			assertThat(((Number) document.getAttribute("value")).intValue(), is(i));
+		}
+	}
+
+	@Test
+	public void deserializeBaseDocumentCustomId() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		builder.add("_key", "1");
+		// placeholder of the same size as the custom type: 1 head byte and 8 bytes collection id
+		builder.add("_id", 0.0);
+		builder.add("name", "doc");
+		builder.close();
+		final VPackSlice id = builder.slice().get("_id");
+		final byte[] buffer = id.getBuffer();
+		buffer[id.getStart()] = (byte) 0xf3;
+		for (int i = 0; i < 8; i++) {
+			buffer[id.getStart() + 1 + i] = (byte) (i == 0 ? 42 : 0);
+		}
+
+		final CollectionCache collectionCache = new CollectionCache() {
+			@Override
+			public String getCollectionName(final long id) {
+				return id == 42 ? "test" : null;
+			}
+		};
+		final VPack.Builder vpackBuilder = new VPack.Builder();
+		VPackConfigureAsync.configure(vpackBuilder, collectionCache);
+		final BaseDocument document = vpackBuilder.build().deserialize(builder.slice(), BaseDocument.class);
+		assertThat(document, is(notNullValue()));
+		assertThat(document.getId(), is("test/1"));
+		assertThat(document.getKey(), is("1"));
+		assertThat(document.getProperties().size(), is(1));
+	}
+
+	@Test
+	public void deserializeBaseEdgeDocument() {
+		final VPackBuilder builder = new VPackBuilder();
+		builder.add(ValueType.OBJECT);
+		builder.add("_key", "edge");
+		builder.add("_from", "a/1");
+		builder.add("_to", "b/2");
+		builder.add("weight", 5);
+		builder.close();
+
+		final VPack.Builder vpackBuilder = new VPack.Builder();
+		VPackConfigureAsync.configure(vpackBuilder);
+		final BaseEdgeDocument edge = vpackBuilder.build().deserialize(builder.slice(), BaseEdgeDocument.class);
+		assertThat(edge, is(notNullValue()));
+		assertThat(edge.getKey(), is("edge"));
+		assertThat(edge.getFrom(), is("a/1"));
+		assertThat(edge.getTo(), is("b/2"));
+		assertThat(edge.getProperties().size(), is(1));
+	}
+
 }